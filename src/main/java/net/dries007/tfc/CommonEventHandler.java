@@ -39,6 +39,7 @@ import net.minecraft.util.math.RayTraceResult;
 import net.minecraft.world.GameRules;
 import net.minecraft.world.World;
 import net.minecraft.world.biome.Biome;
+import net.minecraft.world.chunk.Chunk;
 import net.minecraftforge.common.capabilities.ICapabilityProvider;
 import net.minecraftforge.event.AttachCapabilitiesEvent;
 import net.minecraftforge.event.GameRuleChangeEvent;
@@ -58,6 +59,7 @@ import net.minecraftforge.fml.common.eventhandler.EventPriority;
 import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
 import net.minecraftforge.fml.common.gameevent.PlayerEvent;
 import net.minecraftforge.fml.common.gameevent.TickEvent;
+import net.minecraftforge.oredict.OreDictionary;
 
 import net.dries007.tfc.api.capability.damage.CapabilityDamageResistance;
 import net.dries007.tfc.api.capability.damage.DamageType;
@@ -90,6 +92,7 @@ import net.dries007.tfc.objects.blocks.stone.BlockStoneAnvil;
 import net.dries007.tfc.objects.container.CapabilityContainerListener;
 import net.dries007.tfc.objects.entity.animal.EntityAnimalTFC;
 import net.dries007.tfc.objects.fluids.FluidsTFC;
+import net.dries007.tfc.objects.inventory.ingredient.IngredientIndex;
 import net.dries007.tfc.objects.items.ItemQuiver;
 import net.dries007.tfc.objects.items.food.ItemFoodTFC;
 import net.dries007.tfc.objects.potioneffects.PotionEffectsTFC;
@@ -321,6 +324,15 @@ public final class CommonEventHandler
         event.setAmount(actualDamage);
     }
 
+    /**
+     * Custom capabilities for items are matched via an index, which includes ore dictionary entries
+     */
+    @SubscribeEvent
+    public static void onOreRegister(OreDictionary.OreRegisterEvent event)
+    {
+        IngredientIndex.invalidateAll();
+    }
+
     @SubscribeEvent
     public static void attachItemCapabilities(AttachCapabilitiesEvent<ItemStack> event)
     {
@@ -575,77 +587,12 @@ public final class CommonEventHandler
     public static void onLivingSpawnEvent(LivingSpawnEvent.CheckSpawn event)
     {
         World world = event.getWorld();
-        BlockPos pos = new BlockPos(event.getX(), event.getY(), event.getZ());
-
-        if (ConfigTFC.General.SPAWN_PROTECTION.preventMobs && event.getEntity().isCreatureType(EnumCreatureType.MONSTER, false))
-        {
-            // Prevent Mobs
-            ChunkDataTFC data = ChunkDataTFC.get(event.getWorld(), pos);
-            int minY = ConfigTFC.General.SPAWN_PROTECTION.minYMobs;
-            int maxY = ConfigTFC.General.SPAWN_PROTECTION.maxYMobs;
-            if (data.isSpawnProtected() && minY <= maxY && event.getY() >= minY && event.getY() <= maxY)
-            {
-                event.setResult(Event.Result.DENY);
-            }
-        }
-
-        if (ConfigTFC.General.SPAWN_PROTECTION.preventPredators && event.getEntity() instanceof IPredator)
-        {
-            // Prevent Predators
-            ChunkDataTFC data = ChunkDataTFC.get(event.getWorld(), pos);
-            int minY = ConfigTFC.General.SPAWN_PROTECTION.minYPredators;
-            int maxY = ConfigTFC.General.SPAWN_PROTECTION.maxYPredators;
-            if (data.isSpawnProtected() && minY <= maxY && event.getY() >= minY && event.getY() <= maxY)
-            {
-                event.setResult(Event.Result.DENY);
-            }
-        }
-
-        if (event.getEntity() instanceof EntitySquid && world.getBlockState(pos).getBlock() instanceof BlockFluidTFC)
-        {
-            // Prevents squids spawning outside of salt water (eg: oceans)
-            Fluid fluid = ((BlockFluidTFC) world.getBlockState(pos).getBlock()).getFluid();
-            if (FluidsTFC.SALT_WATER.get() != fluid)
-            {
-                event.setResult(Event.Result.DENY);
-            }
-        }
-
-        // Check creature spawning - Prevents vanilla's respawning mechanic to spawn creatures outside their allowed conditions
-        if (event.getEntity() instanceof ICreatureTFC)
-        {
-            ICreatureTFC creature = (ICreatureTFC) event.getEntity();
-            float rainfall = ChunkDataTFC.getRainfall(world, pos);
-            float temperature = ClimateTFC.getAvgTemp(world, pos);
-            float floraDensity = ChunkDataTFC.getFloraDensity(world, pos);
-            float floraDiversity = ChunkDataTFC.getFloraDiversity(world, pos);
-            Biome biome = world.getBiome(pos);
-
-            // We don't roll spawning again since vanilla is handling it
-            if (creature.getSpawnWeight(biome, temperature, rainfall, floraDensity, floraDiversity) <= 0)
-            {
-                event.setResult(Event.Result.DENY);
-            }
-        }
-
-        // Stop mob spawning in thatch - the list of non-spawnable light-blocking, non-collidable blocks is hardcoded in WorldEntitySpawner#canEntitySpawnBody
-        if (event.getWorld().getBlockState(pos).getBlock() == BlocksTFC.THATCH || event.getWorld().getBlockState(pos.up()).getBlock() == BlocksTFC.THATCH)
+        world.profiler.startSection("tfcSpawnCheck");
+        if (!canSpawn(event.getEntityLiving(), world, new BlockPos(event.getX(), event.getY(), event.getZ()), event.getY()))
         {
             event.setResult(Event.Result.DENY);
         }
-
-        // Stop mob spawning in surface
-        if (ConfigTFC.General.DIFFICULTY.preventMobsOnSurface)
-        {
-            if (event.getEntity().isCreatureType(EnumCreatureType.MONSTER, false))
-            {
-                int maximumY = (WorldTypeTFC.SEALEVEL - WorldTypeTFC.ROCKLAYER2) / 2 + WorldTypeTFC.ROCKLAYER2; // Half through rock layer 1
-                if (pos.getY() >= maximumY || world.canSeeSky(pos))
-                {
-                    event.setResult(Event.Result.DENY);
-                }
-            }
-        }
+        world.profiler.endSection();
     }
 
     @SubscribeEvent
@@ -852,6 +799,83 @@ public final class CommonEventHandler
         }
     }
 
+    /**
+     * All spawn checks only ever deny a spawn, so this stops at the first that does
+     * The chunk and its data are looked up once, rather than through the world for every check
+     */
+    private static boolean canSpawn(EntityLivingBase entity, World world, BlockPos pos, float y)
+    {
+        Chunk chunk = world.getChunk(pos);
+        ChunkDataTFC data = ChunkDataTFC.get(chunk);
+
+        if (ConfigTFC.General.SPAWN_PROTECTION.preventMobs && entity.isCreatureType(EnumCreatureType.MONSTER, false))
+        {
+            // Prevent Mobs
+            int minY = ConfigTFC.General.SPAWN_PROTECTION.minYMobs;
+            int maxY = ConfigTFC.General.SPAWN_PROTECTION.maxYMobs;
+            if (data.isSpawnProtected() && minY <= maxY && y >= minY && y <= maxY)
+            {
+                return false;
+            }
+        }
+
+        if (ConfigTFC.General.SPAWN_PROTECTION.preventPredators && entity instanceof IPredator)
+        {
+            // Prevent Predators
+            int minY = ConfigTFC.General.SPAWN_PROTECTION.minYPredators;
+            int maxY = ConfigTFC.General.SPAWN_PROTECTION.maxYPredators;
+            if (data.isSpawnProtected() && minY <= maxY && y >= minY && y <= maxY)
+            {
+                return false;
+            }
+        }
+
+        IBlockState state = chunk.getBlockState(pos);
+        if (entity instanceof EntitySquid && state.getBlock() instanceof BlockFluidTFC)
+        {
+            // Prevents squids spawning outside of salt water (eg: oceans)
+            Fluid fluid = ((BlockFluidTFC) state.getBlock()).getFluid();
+            if (FluidsTFC.SALT_WATER.get() != fluid)
+            {
+                return false;
+            }
+        }
+
+        // Check creature spawning - Prevents vanilla's respawning mechanic to spawn creatures outside their allowed conditions
+        if (entity instanceof ICreatureTFC)
+        {
+            ICreatureTFC creature = (ICreatureTFC) entity;
+            float rainfall = data.getRainfall();
+            float temperature = data.isInitialized() ? data.getAverageTemp() : ClimateTFC.getAvgTemp(pos);
+            float floraDensity = data.getFloraDensity();
+            float floraDiversity = data.getFloraDiversity();
+            Biome biome = chunk.getBiome(pos, world.getBiomeProvider());
+
+            // We don't roll spawning again since vanilla is handling it
+            if (creature.getSpawnWeight(biome, temperature, rainfall, floraDensity, floraDiversity) <= 0)
+            {
+                return false;
+            }
+        }
+
+        // Stop mob spawning in thatch - the list of non-spawnable light-blocking, non-collidable blocks is hardcoded in WorldEntitySpawner#canEntitySpawnBody
+        if (state.getBlock() == BlocksTFC.THATCH || chunk.getBlockState(pos.up()).getBlock() == BlocksTFC.THATCH)
+        {
+            return false;
+        }
+
+        // Stop mob spawning in surface
+        if (ConfigTFC.General.DIFFICULTY.preventMobsOnSurface)
+        {
+            if (entity.isCreatureType(EnumCreatureType.MONSTER, false))
+            {
+                int maximumY = (WorldTypeTFC.SEALEVEL - WorldTypeTFC.ROCKLAYER2) / 2 + WorldTypeTFC.ROCKLAYER2; // Half through rock layer 1
+                return pos.getY() < maximumY && !chunk.canSeeSky(pos);
+            }
+        }
+        return true;
+    }
+
     private static int countPlayerOverburdened(InventoryPlayer inventory)
     {
         // This is just optimized (probably uselessly, but whatever) for use in onPlayerTick
@@ -339,6 +339,17 @@ public final class ConfigTFC
             @Config.RangeInt(min = 1)
             public int drinkDelay = 12;
 
+            @Config.Comment({"How much thirst or nutrition has to change (as a fraction of the full bar) before it is sent to the client. 0 = send any change.",
+                "Larger values send less packets, at the cost of less accurate bars."})
+            @Config.LangKey("config." + MOD_ID + ".general.player.foodSyncThreshold")
+            @Config.RangeDouble(min = 0, max = 0.1)
+            public double foodSyncThreshold = 0;
+
+            @Config.Comment("The maximum time (in ticks) between sending thirst and nutrition to the client, even if nothing changed.")
+            @Config.LangKey("config." + MOD_ID + ".general.player.foodSyncInterval")
+            @Config.RangeInt(min = 1)
+            public int foodSyncInterval = 200;
+
             @Config.Comment("Which inventory slots will ammo refill/pickup search for quivers?")
             @Config.LangKey("config." + MOD_ID + ".general.player.quiverSearch")
             public QuiverSearch quiverSearch = QuiverSearch.HOTBAR;
@@ -409,6 +420,32 @@ public final class ConfigTFC
                 "Invalid entries will be ignored."})
             @Config.LangKey("config." + MOD_ID + ".general.world.respawnableCreatures")
             public String[] respawnableCreatures = {"tfc:beartfc 30 1 2", "tfc:polarbeartfc 30 1 2", "tfc:panthertfc 30 1 2", "tfc:sabertoothtfc 30 1 2", "tfc:liontfc 30 1 2", "tfc:hyenatfc 30 3 6", "tfc:pheasanttfc 70 2 3", "tfc:deertfc 70 2 4", "tfc:wolftfc 70 2 4", "tfc:parrottfc 70 2 3", "tfc:ocelottfc 70 2 4"};
+
+            @Config.RequiresWorldRestart
+            @Config.Comment({"If true, the terrain stages of chunk generation are run in parallel for batches of nearby chunks.",
+                "This is intended for pre-generating worlds, where many neighbouring chunks are generated in a row."})
+            @Config.LangKey("config." + MOD_ID + ".general.world.parallelTerrainGeneration")
+            public boolean parallelTerrainGeneration = false;
+
+            @Config.RequiresWorldRestart
+            @Config.Comment({"If parallel terrain generation is enabled, this is the radius (in chunks) of the square of chunks that is generated at once.",
+                "At most 64 chunks are generated at once, closest first, so radii above 3 only cover part of the square."})
+            @Config.RangeInt(min = 1, max = 8)
+            @Config.LangKey("config." + MOD_ID + ".general.world.parallelTerrainBatchRadius")
+            public int parallelTerrainBatchRadius = 2;
+
+            @Config.RequiresMcRestart
+            @Config.Comment("If parallel terrain generation is enabled, this is the number of worker threads used. 0 = One per available processor.")
+            @Config.RangeInt(min = 0, max = 256)
+            @Config.LangKey("config." + MOD_ID + ".general.world.parallelTerrainThreads")
+            public int parallelTerrainThreads = 0;
+
+            @Config.RequiresWorldRestart
+            @Config.Comment({"The number of rock / stability / drainage layer tiles kept in memory per dimension. Each tile covers 32x32 chunks and uses about 2 MB.",
+                "Higher values mean less layer recomputation when generating over a large area."})
+            @Config.RangeInt(min = 1, max = 256)
+            @Config.LangKey("config." + MOD_ID + ".general.world.layerCacheTiles")
+            public int layerCacheTiles = 8;
         }
 
         public static final class WorldRegenCFG
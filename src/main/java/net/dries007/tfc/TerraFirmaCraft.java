@@ -222,6 +222,8 @@ public final class TerraFirmaCraft
         event.registerServerCommand(new CommandTimeTFC());
         event.registerServerCommand(new CommandFindVeins());
         event.registerServerCommand(new CommandDebugInfo());
+        event.registerServerCommand(new CommandLayerCache());
+        event.registerServerCommand(new CommandTileTicks());
 
         // Initialize calendar for the current server
         CalendarTFC.INSTANCE.init(event.getServer());
@@ -28,6 +28,7 @@ import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
 import net.dries007.tfc.TerraFirmaCraft;
 import net.dries007.tfc.api.capability.DumbStorage;
 import net.dries007.tfc.objects.inventory.ingredient.IIngredient;
+import net.dries007.tfc.objects.inventory.ingredient.IngredientLookup;
 
 import static net.dries007.tfc.Constants.GSON;
 import static net.dries007.tfc.TerraFirmaCraft.MOD_ID;
@@ -36,6 +37,7 @@ public final class CapabilityDamageResistance
 {
     public static final ResourceLocation KEY = new ResourceLocation(MOD_ID, "damage_resistance");
     public static final Map<IIngredient<ItemStack>, Supplier<ICapabilityProvider>> CUSTOM_ARMOR = new HashMap<>(); //Used inside CT, set custom IDamageResistance for armor items outside TFC
+    private static final IngredientLookup<Supplier<ICapabilityProvider>> CUSTOM_ARMOR_LOOKUP = new IngredientLookup<>(CUSTOM_ARMOR);
     public static final Map<String, Supplier<ICapabilityProvider>> ENTITY_RESISTANCE = new HashMap<>(); // Map entities -> Capability to damage resistance
     @CapabilityInject(IDamageResistance.class)
     public static Capability<IDamageResistance> CAPABILITY;
@@ -81,15 +83,8 @@ public final class CapabilityDamageResistance
     @Nullable
     public static ICapabilityProvider getCustomDamageResistance(ItemStack stack)
     {
-        Set<IIngredient<ItemStack>> itemArmorSet = CUSTOM_ARMOR.keySet();
-        for (IIngredient<ItemStack> ingredient : itemArmorSet)
-        {
-            if (ingredient.testIgnoreCount(stack))
-            {
-                return CUSTOM_ARMOR.get(ingredient).get();
-            }
-        }
-        return null;
+        Supplier<ICapabilityProvider> supplier = CUSTOM_ARMOR_LOOKUP.get(stack);
+        return supplier != null ? supplier.get() : null;
     }
 
     @Mod.EventBusSubscriber(modid = MOD_ID)
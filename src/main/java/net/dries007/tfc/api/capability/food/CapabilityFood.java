@@ -7,7 +7,6 @@ package net.dries007.tfc.api.capability.food;
 
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Set;
 import java.util.function.Supplier;
 import javax.annotation.Nullable;
 
@@ -23,6 +22,7 @@ import net.minecraftforge.items.ItemHandlerHelper;
 import net.dries007.tfc.ConfigTFC;
 import net.dries007.tfc.api.capability.DumbStorage;
 import net.dries007.tfc.objects.inventory.ingredient.IIngredient;
+import net.dries007.tfc.objects.inventory.ingredient.IngredientLookup;
 import net.dries007.tfc.util.calendar.CalendarTFC;
 import net.dries007.tfc.util.calendar.ICalendar;
 
@@ -32,6 +32,7 @@ public class CapabilityFood
 {
     public static final ResourceLocation KEY = new ResourceLocation(MOD_ID, "food");
     public static final Map<IIngredient<ItemStack>, Supplier<ICapabilityProvider>> CUSTOM_FOODS = new HashMap<>(); //Used inside CT, set custom IFood for food items outside TFC
+    private static final IngredientLookup<Supplier<ICapabilityProvider>> CUSTOM_FOODS_LOOKUP = new IngredientLookup<>(CUSTOM_FOODS);
     /**
      * Most TFC foods have decay modifiers in the range [1, 4] (high = faster decay)
      * That puts decay times at 25% - 100% of this value
@@ -164,15 +165,8 @@ public class CapabilityFood
     @Nullable
     public static ICapabilityProvider getCustomFood(ItemStack stack)
     {
-        Set<IIngredient<ItemStack>> itemFoodSet = CUSTOM_FOODS.keySet();
-        for (IIngredient<ItemStack> ingredient : itemFoodSet)
-        {
-            if (ingredient.testIgnoreCount(stack))
-            {
-                return CUSTOM_FOODS.get(ingredient).get();
-            }
-        }
-        return null;
+        Supplier<ICapabilityProvider> supplier = CUSTOM_FOODS_LOOKUP.get(stack);
+        return supplier != null ? supplier.get() : null;
     }
 
     /**
@@ -47,6 +47,11 @@ public class FoodStatsTFC extends FoodStats implements IFoodStatsTFC
         if (player instanceof EntityPlayerMP)
         {
             TerraFirmaCraft.getNetwork().sendTo(new PacketFoodStatsReplace(), (EntityPlayerMP) player);
+            if (player.getFoodStats() instanceof FoodStatsTFC)
+            {
+                // The client has new (empty) stats, so they need to be sent again
+                ((FoodStatsTFC) player.getFoodStats()).syncedThirst = -1;
+            }
         }
     }
 
@@ -57,12 +62,19 @@ public class FoodStatsTFC extends FoodStats implements IFoodStatsTFC
     private float thirst;
     private int healTimer;
 
+    // The values last sent to the client, and when. Server only
+    private final float[] syncedNutrients;
+    private float syncedThirst;
+    private int syncTimer;
+
     public FoodStatsTFC(EntityPlayer sourcePlayer, FoodStats originalStats)
     {
         this.sourcePlayer = sourcePlayer;
         this.originalStats = originalStats;
         this.nutritionStats = new NutritionStats(0.5f, 0.0f);
         this.thirst = MAX_PLAYER_THIRST;
+        this.syncedNutrients = new float[Nutrient.TOTAL];
+        this.syncedThirst = -1; // Forces the first sync
     }
 
     @Override
@@ -204,12 +216,37 @@ public class FoodStatsTFC extends FoodStats implements IFoodStatsTFC
         }
 
         // Since this is only called server side, and vanilla has a custom packet for this stuff, we need our own
-        if (player instanceof EntityPlayerMP)
+        // Only send it when something visibly changed, or every so often in case anything was missed
+        if (player instanceof EntityPlayerMP && (++syncTimer >= ConfigTFC.General.PLAYER.foodSyncInterval || needsSync()))
         {
-            TerraFirmaCraft.getNetwork().sendTo(new PacketFoodStatsUpdate(nutritionStats.getNutrients(), thirst), (EntityPlayerMP) player);
+            syncTimer = 0;
+            syncedThirst = thirst;
+            System.arraycopy(nutritionStats.getNutrients(), 0, syncedNutrients, 0, Nutrient.TOTAL);
+            TerraFirmaCraft.getNetwork().sendTo(new PacketFoodStatsUpdate(syncedNutrients.clone(), syncedThirst), (EntityPlayerMP) player);
         }
     }
 
+    /**
+     * @return true if thirst or any nutrient has moved by at least the sync threshold since it was last sent
+     */
+    private boolean needsSync()
+    {
+        final float threshold = (float) ConfigTFC.General.PLAYER.foodSyncThreshold;
+        if (Math.abs(thirst - syncedThirst) > threshold * MAX_PLAYER_THIRST)
+        {
+            return true;
+        }
+        final float[] nutrients = nutritionStats.getNutrients();
+        for (int i = 0; i < Nutrient.TOTAL; i++)
+        {
+            if (Math.abs(nutrients[i] - syncedNutrients[i]) > threshold)
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
     @Override
     public void readNBT(NBTTagCompound nbt)
     {
@@ -7,7 +7,6 @@ package net.dries007.tfc.api.capability.heat;
 
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Set;
 import java.util.function.Supplier;
 import javax.annotation.Nullable;
 
@@ -22,6 +21,7 @@ import net.minecraftforge.common.capabilities.ICapabilityProvider;
 import net.dries007.tfc.ConfigTFC;
 import net.dries007.tfc.api.capability.DumbStorage;
 import net.dries007.tfc.objects.inventory.ingredient.IIngredient;
+import net.dries007.tfc.objects.inventory.ingredient.IngredientLookup;
 
 import static net.dries007.tfc.TerraFirmaCraft.MOD_ID;
 
@@ -29,6 +29,7 @@ public final class CapabilityItemHeat
 {
     public static final ResourceLocation KEY = new ResourceLocation(MOD_ID, "item_heat");
     public static final Map<IIngredient<ItemStack>, Supplier<ICapabilityProvider>> CUSTOM_ITEMS = new HashMap<>(); //Used inside CT, set custom IItemHeat for items outside TFC
+    private static final IngredientLookup<Supplier<ICapabilityProvider>> CUSTOM_ITEMS_LOOKUP = new IngredientLookup<>(CUSTOM_ITEMS);
     @CapabilityInject(IItemHeat.class)
     public static Capability<IItemHeat> ITEM_HEAT_CAPABILITY;
 
@@ -100,14 +101,7 @@ public final class CapabilityItemHeat
     @Nullable
     public static ICapabilityProvider getCustomHeat(ItemStack stack)
     {
-        Set<IIngredient<ItemStack>> itemItemSet = CUSTOM_ITEMS.keySet();
-        for (IIngredient<ItemStack> ingredient : itemItemSet)
-        {
-            if (ingredient.testIgnoreCount(stack))
-            {
-                return CUSTOM_ITEMS.get(ingredient).get();
-            }
-        }
-        return null;
+        Supplier<ICapabilityProvider> supplier = CUSTOM_ITEMS_LOOKUP.get(stack);
+        return supplier != null ? supplier.get() : null;
     }
 }
@@ -8,7 +8,6 @@ package net.dries007.tfc.api.capability.metal;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.Set;
 import java.util.function.Supplier;
 import javax.annotation.Nullable;
 
@@ -26,12 +25,14 @@ import net.dries007.tfc.api.capability.DumbStorage;
 import net.dries007.tfc.api.registries.TFCRegistries;
 import net.dries007.tfc.api.types.Metal;
 import net.dries007.tfc.objects.inventory.ingredient.IIngredient;
+import net.dries007.tfc.objects.inventory.ingredient.IngredientLookup;
 import net.dries007.tfc.util.OreDictionaryHelper;
 
 public final class CapabilityMetalItem
 {
     public static final ResourceLocation KEY = new ResourceLocation(TerraFirmaCraft.MOD_ID, "metal_object");
     public static final Map<IIngredient<ItemStack>, Supplier<ICapabilityProvider>> CUSTOM_METAL_ITEMS = new HashMap<>(); //Used inside CT, set custom IMetalItem for items outside TFC
+    private static final IngredientLookup<Supplier<ICapabilityProvider>> CUSTOM_METAL_ITEMS_LOOKUP = new IngredientLookup<>(CUSTOM_METAL_ITEMS);
     public static final Map<String, Metal.ItemType> ORE_DICT_METAL_ITEMS = new LinkedHashMap<>();
     @CapabilityInject(IMetalItem.class)
     public static Capability<IMetalItem> METAL_OBJECT_CAPABILITY;
@@ -83,13 +84,10 @@ public final class CapabilityMetalItem
     {
         if (!stack.isEmpty())
         {
-            Set<IIngredient<ItemStack>> itemItemSet = CUSTOM_METAL_ITEMS.keySet();
-            for (IIngredient<ItemStack> ingredient : itemItemSet)
+            Supplier<ICapabilityProvider> supplier = CUSTOM_METAL_ITEMS_LOOKUP.get(stack);
+            if (supplier != null)
             {
-                if (ingredient.testIgnoreCount(stack))
-                {
-                    return CUSTOM_METAL_ITEMS.get(ingredient).get();
-                }
+                return supplier.get();
             }
             // Try using ore dict prefix-suffix common values (ie: ingotCopper)
             int[] ids = OreDictionary.getOreIDs(stack);
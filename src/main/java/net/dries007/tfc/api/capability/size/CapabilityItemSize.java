@@ -25,11 +25,13 @@ import net.dries007.tfc.TerraFirmaCraft;
 import net.dries007.tfc.api.capability.DumbStorage;
 import net.dries007.tfc.api.capability.ItemStickCapability;
 import net.dries007.tfc.objects.inventory.ingredient.IIngredient;
+import net.dries007.tfc.objects.inventory.ingredient.IngredientLookup;
 
 public final class CapabilityItemSize
 {
     public static final ResourceLocation KEY = new ResourceLocation(TerraFirmaCraft.MOD_ID, "item_size");
     public static final Map<IIngredient<ItemStack>, Supplier<ICapabilityProvider>> CUSTOM_ITEMS = new LinkedHashMap<>(); //Used inside CT, set custom IItemSize for items outside TFC
+    private static final IngredientLookup<Supplier<ICapabilityProvider>> CUSTOM_ITEMS_LOOKUP = new IngredientLookup<>(CUSTOM_ITEMS);
     @CapabilityInject(IItemSize.class)
     public static Capability<IItemSize> ITEM_SIZE_CAPABILITY;
 
@@ -42,14 +44,14 @@ public final class CapabilityItemSize
     public static void init()
     {
         // Add hardcoded size values for vanilla items
-        CUSTOM_ITEMS.put(IIngredient.of(Items.COAL), () -> new ItemSizeHandler(Size.SMALL, Weight.LIGHT, true)); // Store anywhere stacksize = 32
+        CUSTOM_ITEMS.put(IIngredient.of(Items.COAL), () -> ItemSizeHandler.get(Size.SMALL, Weight.LIGHT, true)); // Store anywhere stacksize = 32
         CUSTOM_ITEMS.put(IIngredient.of(Items.STICK), ItemStickCapability::new); // Store anywhere stacksize = 64
-        CUSTOM_ITEMS.put(IIngredient.of(Items.CLAY_BALL), () -> new ItemSizeHandler(Size.SMALL, Weight.VERY_LIGHT, true)); // Store anywhere stacksize = 64
-        CUSTOM_ITEMS.put(IIngredient.of(Items.BED), () -> new ItemSizeHandler(Size.LARGE, Weight.VERY_HEAVY, false)); // Store only in chests stacksize = 1
-        CUSTOM_ITEMS.put(IIngredient.of(Items.MINECART), () -> new ItemSizeHandler(Size.LARGE, Weight.VERY_HEAVY, false)); // Store only in chests stacksize = 1
-        CUSTOM_ITEMS.put(IIngredient.of(Items.ARMOR_STAND), () -> new ItemSizeHandler(Size.LARGE, Weight.HEAVY, true)); // Store only in chests stacksize = 4
-        CUSTOM_ITEMS.put(IIngredient.of(Items.CAULDRON), () -> new ItemSizeHandler(Size.LARGE, Weight.LIGHT, true)); // Store only in chests stacksize = 32
-        CUSTOM_ITEMS.put(IIngredient.of(Blocks.TRIPWIRE_HOOK), () -> new ItemSizeHandler(Size.SMALL, Weight.VERY_LIGHT, true)); // Store anywhere stacksize = 64
+        CUSTOM_ITEMS.put(IIngredient.of(Items.CLAY_BALL), () -> ItemSizeHandler.get(Size.SMALL, Weight.VERY_LIGHT, true)); // Store anywhere stacksize = 64
+        CUSTOM_ITEMS.put(IIngredient.of(Items.BED), () -> ItemSizeHandler.get(Size.LARGE, Weight.VERY_HEAVY, false)); // Store only in chests stacksize = 1
+        CUSTOM_ITEMS.put(IIngredient.of(Items.MINECART), () -> ItemSizeHandler.get(Size.LARGE, Weight.VERY_HEAVY, false)); // Store only in chests stacksize = 1
+        CUSTOM_ITEMS.put(IIngredient.of(Items.ARMOR_STAND), () -> ItemSizeHandler.get(Size.LARGE, Weight.HEAVY, true)); // Store only in chests stacksize = 4
+        CUSTOM_ITEMS.put(IIngredient.of(Items.CAULDRON), () -> ItemSizeHandler.get(Size.LARGE, Weight.LIGHT, true)); // Store only in chests stacksize = 32
+        CUSTOM_ITEMS.put(IIngredient.of(Blocks.TRIPWIRE_HOOK), () -> ItemSizeHandler.get(Size.SMALL, Weight.VERY_LIGHT, true)); // Store anywhere stacksize = 64
     }
 
     /**
@@ -96,34 +98,32 @@ public final class CapabilityItemSize
     @Nonnull
     public static ICapabilityProvider getCustomSize(ItemStack stack)
     {
-        for (Map.Entry<IIngredient<ItemStack>, Supplier<ICapabilityProvider>> entry : CUSTOM_ITEMS.entrySet())
+        Supplier<ICapabilityProvider> supplier = CUSTOM_ITEMS_LOOKUP.get(stack);
+        if (supplier != null)
         {
-            if (entry.getKey().testIgnoreCount(stack))
-            {
-                return entry.getValue().get();
-            }
+            return supplier.get();
         }
         // Check for generic item types
         Item item = stack.getItem();
         if (item instanceof ItemTool || item instanceof ItemSword)
         {
-            return new ItemSizeHandler(Size.LARGE, Weight.MEDIUM, true); // Stored only in chests, stacksize should be limited to 1 since it is a tool
+            return ItemSizeHandler.get(Size.LARGE, Weight.MEDIUM, true); // Stored only in chests, stacksize should be limited to 1 since it is a tool
         }
         else if (item instanceof ItemArmor)
         {
-            return new ItemSizeHandler(Size.LARGE, Weight.VERY_HEAVY, true); // Stored only in chests and stacksize = 1
+            return ItemSizeHandler.get(Size.LARGE, Weight.VERY_HEAVY, true); // Stored only in chests and stacksize = 1
         }
         else if (item instanceof ItemBlock && ((ItemBlock) item).getBlock() instanceof BlockLadder)
         {
-            return new ItemSizeHandler(Size.SMALL, Weight.VERY_LIGHT, true); // Fits small vessels and stacksize = 64
+            return ItemSizeHandler.get(Size.SMALL, Weight.VERY_LIGHT, true); // Fits small vessels and stacksize = 64
         }
         else if (item instanceof ItemBlock)
         {
-            return new ItemSizeHandler(Size.SMALL, Weight.LIGHT, true); // Fits small vessels and stacksize = 32
+            return ItemSizeHandler.get(Size.SMALL, Weight.LIGHT, true); // Fits small vessels and stacksize = 32
         }
         else
         {
-            return new ItemSizeHandler(Size.VERY_SMALL, Weight.VERY_LIGHT, true); // Stored anywhere and stacksize = 64
+            return ItemSizeHandler.get(Size.VERY_SMALL, Weight.VERY_LIGHT, true); // Stored anywhere and stacksize = 64
         }
     }
 }
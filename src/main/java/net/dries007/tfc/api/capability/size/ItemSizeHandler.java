@@ -15,6 +15,24 @@ import net.minecraftforge.common.capabilities.ICapabilityProvider;
 
 public class ItemSizeHandler implements ICapabilityProvider, IItemSize
 {
+    private static final int WEIGHTS = Weight.values().length;
+    private static final ItemSizeHandler[] CACHE = new ItemSizeHandler[Size.values().length * WEIGHTS * 2];
+
+    /**
+     * This doesn't store anything per stack, so the same instance is shared by every stack with the same size, weight and stackability
+     */
+    public static ItemSizeHandler get(Size size, Weight weight, boolean canStack)
+    {
+        int index = (size.ordinal() * WEIGHTS + weight.ordinal()) * 2 + (canStack ? 1 : 0);
+        ItemSizeHandler handler = CACHE[index];
+        if (handler == null)
+        {
+            handler = new ItemSizeHandler(size, weight, canStack);
+            CACHE[index] = handler;
+        }
+        return handler;
+    }
+
     private final Size size;
     private final Weight weight;
     private final boolean canStack;
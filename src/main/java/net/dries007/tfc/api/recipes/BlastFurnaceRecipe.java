@@ -5,6 +5,8 @@
 
 package net.dries007.tfc.api.recipes;
 
+import java.util.Collections;
+import java.util.Set;
 import javax.annotation.Nullable;
 
 import net.minecraft.item.ItemStack;
@@ -18,15 +20,36 @@ import net.dries007.tfc.api.registries.TFCRegistries;
 import net.dries007.tfc.api.types.Metal;
 import net.dries007.tfc.objects.fluids.FluidsTFC;
 import net.dries007.tfc.objects.inventory.ingredient.IIngredient;
+import net.dries007.tfc.objects.inventory.ingredient.IngredientIndex;
 import net.dries007.tfc.objects.items.metal.ItemIngot;
 
 @SuppressWarnings("WeakerAccess")
 public class BlastFurnaceRecipe extends IForgeRegistryEntry.Impl<BlastFurnaceRecipe>
 {
+    private static final RecipeIndex<BlastFurnaceRecipe, IngredientIndex<Metal, BlastFurnaceRecipe>> INDEX = new RecipeIndex<>(() -> TFCRegistries.BLAST_FURNACE, recipes -> new IngredientIndex<>(recipes, BlastFurnaceRecipe::getIndexKeys));
+
     @Nullable
     public static BlastFurnaceRecipe get(ItemStack inputItem)
     {
-        return TFCRegistries.BLAST_FURNACE.getValuesCollection().stream().filter(x -> x.isValidInput(inputItem)).findFirst().orElse(null);
+        // Recipes are indexed by input metal, so only look up the metal of the input once
+        IMetalItem metalItem = CapabilityMetalItem.getMetalItem(inputItem);
+        Metal metal = metalItem != null ? metalItem.getMetal(inputItem) : null;
+        IngredientIndex<Metal, BlastFurnaceRecipe> index = INDEX.get();
+        for (int i : index.getCandidates(metal))
+        {
+            BlastFurnaceRecipe recipe = index.get(i);
+            if (recipe.isValidInput(inputItem))
+            {
+                return recipe;
+            }
+        }
+        return null;
+    }
+
+    @Nullable
+    private static Set<Metal> getIndexKeys(BlastFurnaceRecipe recipe)
+    {
+        return RecipeIndex.overrides(recipe, BlastFurnaceRecipe.class, "isValidInput", ItemStack.class) ? null : Collections.singleton(recipe.input);
     }
 
     protected Metal output;
@@ -5,7 +5,9 @@
 
 package net.dries007.tfc.api.recipes;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
@@ -20,14 +22,35 @@ import net.dries007.tfc.api.capability.metal.IMetalItem;
 import net.dries007.tfc.api.registries.TFCRegistries;
 import net.dries007.tfc.api.types.Metal;
 import net.dries007.tfc.objects.inventory.ingredient.IIngredient;
+import net.dries007.tfc.objects.inventory.ingredient.IngredientIndex;
 import net.dries007.tfc.objects.items.ItemsTFC;
 
 public class BloomeryRecipe extends IForgeRegistryEntry.Impl<BloomeryRecipe>
 {
+    private static final RecipeIndex<BloomeryRecipe, IngredientIndex<Metal, BloomeryRecipe>> INDEX = new RecipeIndex<>(() -> TFCRegistries.BLOOMERY, recipes -> new IngredientIndex<>(recipes, BloomeryRecipe::getIndexKeys));
+
     @Nullable
     public static BloomeryRecipe get(ItemStack inputItem)
     {
-        return TFCRegistries.BLOOMERY.getValuesCollection().stream().filter(x -> x.isValidInput(inputItem)).findFirst().orElse(null);
+        // Recipes are indexed by input metal, so only look up the metal of the input once
+        IMetalItem metalItem = CapabilityMetalItem.getMetalItem(inputItem);
+        Metal metal = metalItem != null ? metalItem.getMetal(inputItem) : null;
+        IngredientIndex<Metal, BloomeryRecipe> index = INDEX.get();
+        for (int i : index.getCandidates(metal))
+        {
+            BloomeryRecipe recipe = index.get(i);
+            if (recipe.isValidInput(inputItem))
+            {
+                return recipe;
+            }
+        }
+        return null;
+    }
+
+    @Nullable
+    private static Set<Metal> getIndexKeys(BloomeryRecipe recipe)
+    {
+        return RecipeIndex.overrides(recipe, BloomeryRecipe.class, "isValidInput", ItemStack.class) ? null : Collections.singleton(recipe.metal);
     }
 
     private final Metal metal; // Melting metal (which will be stored in a bloom)
@@ -5,6 +5,8 @@
 
 package net.dries007.tfc.api.recipes;
 
+import java.util.Collections;
+import java.util.Set;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
@@ -14,27 +16,55 @@ import net.minecraftforge.registries.IForgeRegistryEntry;
 
 import net.dries007.tfc.api.registries.TFCRegistries;
 import net.dries007.tfc.objects.inventory.ingredient.IIngredient;
+import net.dries007.tfc.objects.inventory.ingredient.IngredientIndex;
 
 public class ChiselRecipe extends IForgeRegistryEntry.Impl<ChiselRecipe>
 {
+    private static final RecipeIndex<ChiselRecipe, IngredientIndex<Block, ChiselRecipe>> INDEX = new RecipeIndex<>(() -> TFCRegistries.CHISEL, recipes -> new IngredientIndex<>(recipes, ChiselRecipe::getIndexKeys));
+
     @Nullable
     public static ChiselRecipe get(IBlockState state)
     {
-        return TFCRegistries.CHISEL.getValuesCollection().stream().filter(r -> r.matches(state)).findFirst().orElse(null);
+        IngredientIndex<Block, ChiselRecipe> index = INDEX.get();
+        for (int i : index.getCandidates(state.getBlock()))
+        {
+            ChiselRecipe recipe = index.get(i);
+            if (recipe.matches(state))
+            {
+                return recipe;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Only recipes created for a single block can be indexed, anything else is checked for every state
+     */
+    @Nullable
+    private static Set<Block> getIndexKeys(ChiselRecipe recipe)
+    {
+        return recipe.blockIn == null || RecipeIndex.overrides(recipe, ChiselRecipe.class, "matches", IBlockState.class) ? null : Collections.singleton(recipe.blockIn);
     }
 
     private final IIngredient<IBlockState> ingredient;
     private final IBlockState stateOut;
+    private final Block blockIn;
 
     public ChiselRecipe(Block blockIn, IBlockState stateOut)
     {
-        this(state -> state.getBlock() == blockIn, stateOut);
+        this(state -> state.getBlock() == blockIn, stateOut, blockIn);
     }
 
     public ChiselRecipe(IIngredient<IBlockState> ingredient, IBlockState stateOut)
+    {
+        this(ingredient, stateOut, null);
+    }
+
+    private ChiselRecipe(IIngredient<IBlockState> ingredient, IBlockState stateOut, @Nullable Block blockIn)
     {
         this.ingredient = ingredient;
         this.stateOut = stateOut;
+        this.blockIn = blockIn;
     }
 
     public IBlockState getOutputState()
@@ -7,6 +7,7 @@ package net.dries007.tfc.api.recipes;
 
 import javax.annotation.Nullable;
 
+import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.util.NonNullList;
 import net.minecraft.util.ResourceLocation;
@@ -15,13 +16,25 @@ import net.minecraftforge.registries.IForgeRegistryEntry;
 import net.dries007.tfc.api.registries.TFCRegistries;
 import net.dries007.tfc.compat.jei.IJEISimpleRecipe;
 import net.dries007.tfc.objects.inventory.ingredient.IIngredient;
+import net.dries007.tfc.objects.inventory.ingredient.IngredientIndex;
 
 public class LoomRecipe extends IForgeRegistryEntry.Impl<LoomRecipe> implements IJEISimpleRecipe
 {
+    private static final RecipeIndex<LoomRecipe, IngredientIndex<Item, LoomRecipe>> INDEX = new RecipeIndex<>(() -> TFCRegistries.LOOM, recipes -> new IngredientIndex<>(recipes, recipe -> IngredientIndex.getItems(recipe.inputItem)));
+
     @Nullable
     public static LoomRecipe get(ItemStack item)
     {
-        return TFCRegistries.LOOM.getValuesCollection().stream().filter(x -> x.isValidInput(item)).findFirst().orElse(null);
+        IngredientIndex<Item, LoomRecipe> index = INDEX.get();
+        for (int i : index.getCandidates(item.getItem()))
+        {
+            LoomRecipe recipe = index.get(i);
+            if (recipe.isValidInput(item))
+            {
+                return recipe;
+            }
+        }
+        return null;
     }
 
     private final IIngredient<ItemStack> inputItem;
@@ -0,0 +1,80 @@
+/*
+ * Work under Copyright. Licensed under the EUPL.
+ * See the project README.md and LICENSE.txt for more information.
+ */
+
+package net.dries007.tfc.api.recipes;
+
+import java.util.Collection;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import javax.annotation.Nonnull;
+
+import net.minecraftforge.registries.IForgeRegistry;
+import net.minecraftforge.registries.IForgeRegistryEntry;
+
+import net.dries007.tfc.objects.inventory.ingredient.IngredientIndex;
+
+/**
+ * Holds a lookup structure compiled from a recipe registry, so recipe queries don't need to test every recipe.
+ * The structure is compiled on first use (after the registries are done), and recompiled if a recipe is added (i.e. CraftTweaker, see {@link net.dries007.tfc.types.Registries}) or removed, or the ore dictionary changes.
+ * Additions are tracked by {@link IngredientIndex#getGeneration()}, so removing one recipe and adding another is still noticed even though the number of recipes is the same.
+ *
+ * The compiled structure must only ever narrow down the search, recipes must still be tested in registry order to keep the same first match.
+ *
+ * @param <R> the recipe type
+ * @param <I> the compiled lookup type
+ */
+public final class RecipeIndex<R extends IForgeRegistryEntry<R>, I>
+{
+    /**
+     * Recipes can only be indexed by their ingredients if the method used to test them is not overridden, otherwise they need to be tested for every input.
+     *
+     * @return true if the recipe's class overrides a public method declared in {@code baseClass}
+     */
+    public static boolean overrides(Object recipe, Class<?> baseClass, String methodName, Class<?>... parameterTypes)
+    {
+        try
+        {
+            return recipe.getClass().getMethod(methodName, parameterTypes).getDeclaringClass() != baseClass;
+        }
+        catch (NoSuchMethodException e)
+        {
+            return true;
+        }
+    }
+
+    private final Supplier<IForgeRegistry<R>> registry;
+    private final Function<Collection<R>, I> compiler;
+    private volatile I compiled;
+    private int size, generation;
+
+    public RecipeIndex(Supplier<IForgeRegistry<R>> registry, Function<Collection<R>, I> compiler)
+    {
+        this.registry = registry;
+        this.compiler = compiler;
+    }
+
+    @Nonnull
+    public I get()
+    {
+        Collection<R> recipes = registry.get().getValuesCollection();
+        I compiled = this.compiled;
+        if (compiled == null || size != recipes.size() || generation != IngredientIndex.getGeneration())
+        {
+            compiled = compile(recipes);
+        }
+        return compiled;
+    }
+
+    private synchronized I compile(Collection<R> recipes)
+    {
+        if (compiled == null || size != recipes.size() || generation != IngredientIndex.getGeneration())
+        {
+            generation = IngredientIndex.getGeneration();
+            size = recipes.size();
+            compiled = compiler.apply(recipes);
+        }
+        return compiled;
+    }
+}
@@ -5,9 +5,12 @@
 
 package net.dries007.tfc.api.recipes;
 
+import java.util.Set;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import javax.annotation.ParametersAreNonnullByDefault;
 
+import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.util.NonNullList;
 import net.minecraft.util.ResourceLocation;
@@ -17,6 +20,7 @@ import net.dries007.tfc.api.registries.TFCRegistries;
 import net.dries007.tfc.api.types.Metal;
 import net.dries007.tfc.compat.jei.IJEISimpleRecipe;
 import net.dries007.tfc.objects.inventory.ingredient.IIngredient;
+import net.dries007.tfc.objects.inventory.ingredient.IngredientIndex;
 
 /**
  * Welding Recipe
@@ -26,9 +30,30 @@ import net.dries007.tfc.objects.inventory.ingredient.IIngredient;
 @ParametersAreNonnullByDefault
 public class WeldingRecipe extends IForgeRegistryEntry.Impl<WeldingRecipe> implements IJEISimpleRecipe
 {
+    private static final RecipeIndex<WeldingRecipe, IngredientIndex<Item, WeldingRecipe>> INDEX = new RecipeIndex<>(() -> TFCRegistries.WELDING, recipes -> new IngredientIndex<>(recipes, WeldingRecipe::getIndexKeys));
+
     public static WeldingRecipe get(ItemStack stack1, ItemStack stack2, Metal.Tier tier)
     {
-        return TFCRegistries.WELDING.getValuesCollection().stream().filter(x -> x.matches(stack1, stack2, tier)).findFirst().orElse(null);
+        // Either input may match either stack, so check the candidates for both
+        IngredientIndex<Item, WeldingRecipe> index = INDEX.get();
+        for (int i : IngredientIndex.union(index.getCandidates(stack1.getItem()), index.getCandidates(stack2.getItem())))
+        {
+            WeldingRecipe recipe = index.get(i);
+            if (recipe.matches(stack1, stack2, tier))
+            {
+                return recipe;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * A recipe can only match if one of the stacks matches the first input, so it only needs to be indexed by that
+     */
+    @Nullable
+    private static Set<Item> getIndexKeys(WeldingRecipe recipe)
+    {
+        return RecipeIndex.overrides(recipe, WeldingRecipe.class, "matches", ItemStack.class, ItemStack.class, Metal.Tier.class) ? null : IngredientIndex.getItems(recipe.input1);
     }
 
     private final Metal.Tier minTier;
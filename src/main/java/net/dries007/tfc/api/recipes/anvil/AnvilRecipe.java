@@ -5,22 +5,26 @@
 
 package net.dries007.tfc.api.recipes.anvil;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
-import java.util.stream.Collectors;
+import java.util.Set;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import javax.annotation.ParametersAreNonnullByDefault;
 
+import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.util.NonNullList;
 import net.minecraft.util.ResourceLocation;
 import net.minecraftforge.registries.IForgeRegistryEntry;
 
+import net.dries007.tfc.api.recipes.RecipeIndex;
 import net.dries007.tfc.api.registries.TFCRegistries;
 import net.dries007.tfc.api.types.Metal;
 import net.dries007.tfc.compat.jei.IJEISimpleRecipe;
 import net.dries007.tfc.objects.inventory.ingredient.IIngredient;
+import net.dries007.tfc.objects.inventory.ingredient.IngredientIndex;
 import net.dries007.tfc.objects.te.TEAnvilTFC;
 import net.dries007.tfc.util.forge.ForgeRule;
 import net.dries007.tfc.util.forge.ForgeSteps;
@@ -39,10 +43,28 @@ public class AnvilRecipe extends IForgeRegistryEntry.Impl<AnvilRecipe> implement
     private static final Random RNG = new Random();
     private static long SEED = 0;
 
+    private static final RecipeIndex<AnvilRecipe, IngredientIndex<Item, AnvilRecipe>> INDEX = new RecipeIndex<>(() -> TFCRegistries.ANVIL, recipes -> new IngredientIndex<>(recipes, AnvilRecipe::getIndexKeys));
+
     @Nonnull
     public static List<AnvilRecipe> getAllFor(ItemStack stack)
     {
-        return TFCRegistries.ANVIL.getValuesCollection().stream().filter(x -> x.matches(stack)).collect(Collectors.toList());
+        IngredientIndex<Item, AnvilRecipe> index = INDEX.get();
+        List<AnvilRecipe> recipes = new ArrayList<>();
+        for (int i : index.getCandidates(stack.getItem()))
+        {
+            AnvilRecipe recipe = index.get(i);
+            if (recipe.matches(stack))
+            {
+                recipes.add(recipe);
+            }
+        }
+        return recipes;
+    }
+
+    @Nullable
+    private static Set<Item> getIndexKeys(AnvilRecipe recipe)
+    {
+        return RecipeIndex.overrides(recipe, AnvilRecipe.class, "matches", ItemStack.class) ? null : IngredientIndex.getItems(recipe.ingredient);
     }
 
     protected final ForgeRule[] rules;
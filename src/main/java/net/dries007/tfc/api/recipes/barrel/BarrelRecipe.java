@@ -6,34 +6,41 @@
 package net.dries007.tfc.api.recipes.barrel;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
+import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
+import net.minecraftforge.fluids.Fluid;
 import net.minecraftforge.fluids.FluidStack;
 import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
 import net.minecraftforge.registries.IForgeRegistryEntry;
 
 import net.dries007.tfc.ConfigTFC;
+import net.dries007.tfc.api.recipes.RecipeIndex;
 import net.dries007.tfc.api.registries.TFCRegistries;
 import net.dries007.tfc.objects.inventory.ingredient.IIngredient;
+import net.dries007.tfc.objects.inventory.ingredient.IngredientIndex;
 
 public class BarrelRecipe extends IForgeRegistryEntry.Impl<BarrelRecipe>
 {
+    private static final RecipeIndex<BarrelRecipe, Index> INDEX = new RecipeIndex<>(() -> TFCRegistries.BARREL, Index::new);
+
     @Nullable
     public static BarrelRecipe get(ItemStack stack, FluidStack fluidStack)
     {
-        return TFCRegistries.BARREL.getValuesCollection().stream().filter(x -> x.isValidInput(fluidStack, stack) && x.getDuration() != 0).findFirst().orElse(null);
+        return INDEX.get().get(stack, fluidStack, false);
     }
 
     @Nullable
     public static BarrelRecipe getInstant(ItemStack stack, FluidStack fluidStack)
     {
-        return TFCRegistries.BARREL.getValuesCollection().stream().filter(x -> x.isValidInput(fluidStack, stack) && x.getDuration() == 0).findFirst().orElse(null);
+        return INDEX.get().get(stack, fluidStack, true);
     }
 
     protected final IIngredient<ItemStack> inputStack;
@@ -213,4 +220,43 @@ public class BarrelRecipe extends IForgeRegistryEntry.Impl<BarrelRecipe>
         }
         return 0;
     }
+
+    /**
+     * Barrel recipes indexed by both their item and fluid input
+     */
+    private static final class Index
+    {
+        private final IngredientIndex<Item, BarrelRecipe> items;
+        private final IngredientIndex<Fluid, BarrelRecipe> fluids;
+
+        private Index(Collection<BarrelRecipe> recipes)
+        {
+            items = new IngredientIndex<>(recipes, recipe -> isIndexable(recipe) ? IngredientIndex.getItems(recipe.inputStack) : null);
+            fluids = new IngredientIndex<>(recipes, recipe -> isIndexable(recipe) ? IngredientIndex.getFluids(recipe.inputFluid) : null);
+        }
+
+        @Nullable
+        private BarrelRecipe get(ItemStack stack, @Nullable FluidStack fluidStack, boolean instant)
+        {
+            int[] candidates = items.getCandidates(stack.getItem());
+            if (fluidStack != null)
+            {
+                candidates = IngredientIndex.intersect(candidates, fluids.getCandidates(fluidStack.getFluid()));
+            }
+            for (int i : candidates)
+            {
+                BarrelRecipe recipe = items.get(i);
+                if (recipe.isValidInput(fluidStack, stack) && (recipe.getDuration() == 0) == instant)
+                {
+                    return recipe;
+                }
+            }
+            return null;
+        }
+
+        private static boolean isIndexable(BarrelRecipe recipe)
+        {
+            return !RecipeIndex.overrides(recipe, BarrelRecipe.class, "isValidInput", FluidStack.class, ItemStack.class);
+        }
+    }
 }
@@ -5,19 +5,23 @@
 
 package net.dries007.tfc.api.recipes.heat;
 
+import java.util.Set;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import javax.annotation.ParametersAreNonnullByDefault;
 
+import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.util.NonNullList;
 import net.minecraftforge.fluids.FluidStack;
 import net.minecraftforge.registries.IForgeRegistryEntry;
 
+import net.dries007.tfc.api.recipes.RecipeIndex;
 import net.dries007.tfc.api.registries.TFCRegistries;
 import net.dries007.tfc.api.types.Metal;
 import net.dries007.tfc.compat.jei.IJEISimpleRecipe;
 import net.dries007.tfc.objects.inventory.ingredient.IIngredient;
+import net.dries007.tfc.objects.inventory.ingredient.IngredientIndex;
 
 /**
  * Generic recipe for items that heat up and transform
@@ -28,6 +32,8 @@ import net.dries007.tfc.objects.inventory.ingredient.IIngredient;
 @ParametersAreNonnullByDefault
 public abstract class HeatRecipe extends IForgeRegistryEntry.Impl<HeatRecipe> implements IJEISimpleRecipe
 {
+    private static final RecipeIndex<HeatRecipe, IngredientIndex<Item, HeatRecipe>> INDEX = new RecipeIndex<>(() -> TFCRegistries.HEAT, recipes -> new IngredientIndex<>(recipes, HeatRecipe::getIndexKeys));
+
     /**
      * Overload that ignores the tier requirement by passing in the maximum tier
      */
@@ -40,7 +46,22 @@ public abstract class HeatRecipe extends IForgeRegistryEntry.Impl<HeatRecipe> im
     @Nullable
     public static HeatRecipe get(ItemStack stack, Metal.Tier tier)
     {
-        return TFCRegistries.HEAT.getValuesCollection().stream().filter(r -> r.isValidInput(stack, tier)).findFirst().orElse(null);
+        IngredientIndex<Item, HeatRecipe> index = INDEX.get();
+        for (int i : index.getCandidates(stack.getItem()))
+        {
+            HeatRecipe recipe = index.get(i);
+            if (recipe.isValidInput(stack, tier))
+            {
+                return recipe;
+            }
+        }
+        return null;
+    }
+
+    @Nullable
+    private static Set<Item> getIndexKeys(HeatRecipe recipe)
+    {
+        return RecipeIndex.overrides(recipe, HeatRecipe.class, "isValidInput", ItemStack.class, Metal.Tier.class) ? null : IngredientIndex.getItems(recipe.ingredient);
     }
 
     /**
@@ -5,9 +5,18 @@
 
 package net.dries007.tfc.api.recipes.knapping;
 
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import javax.annotation.Nullable;
+
 import net.minecraft.item.ItemStack;
 import net.minecraftforge.registries.IForgeRegistryEntry;
 
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import net.dries007.tfc.api.recipes.RecipeIndex;
+import net.dries007.tfc.api.registries.TFCRegistries;
 import net.dries007.tfc.util.SimpleCraftMatrix;
 
 /**
@@ -15,6 +24,36 @@ import net.dries007.tfc.util.SimpleCraftMatrix;
  */
 public abstract class KnappingRecipe extends IForgeRegistryEntry.Impl<KnappingRecipe>
 {
+    private static final RecipeIndex<KnappingRecipe, Map<KnappingType, Int2ObjectMap<KnappingRecipe>>> INDEX = new RecipeIndex<>(() -> TFCRegistries.KNAPPING, KnappingRecipe::index);
+
+    /**
+     * @param matrix a max size (5x5) craft matrix
+     * @return the first recipe, in registry order, that matches the matrix
+     */
+    @Nullable
+    public static KnappingRecipe get(KnappingType type, SimpleCraftMatrix matrix)
+    {
+        Int2ObjectMap<KnappingRecipe> recipes = INDEX.get().get(type);
+        return recipes == null ? null : recipes.get(matrix.toMask());
+    }
+
+    /**
+     * Every shift and mirror of each recipe is stored by its bit mask, so a matrix can be matched with a single lookup
+     */
+    private static Map<KnappingType, Int2ObjectMap<KnappingRecipe>> index(Collection<KnappingRecipe> recipes)
+    {
+        Map<KnappingType, Int2ObjectMap<KnappingRecipe>> index = new IdentityHashMap<>();
+        for (KnappingRecipe recipe : recipes)
+        {
+            Int2ObjectMap<KnappingRecipe> masks = index.computeIfAbsent(recipe.getType(), type -> new Int2ObjectOpenHashMap<>());
+            for (int mask : recipe.getMatrix().getMatchingMasks())
+            {
+                masks.putIfAbsent(mask, recipe); // Earlier recipes take priority, like the first match
+            }
+        }
+        return index;
+    }
+
     private final KnappingType type;
     private final SimpleCraftMatrix matrix;
 
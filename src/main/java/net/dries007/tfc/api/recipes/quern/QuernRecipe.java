@@ -8,21 +8,35 @@ package net.dries007.tfc.api.recipes.quern;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
+import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.util.NonNullList;
 import net.minecraftforge.registries.IForgeRegistryEntry;
 
 import net.dries007.tfc.api.capability.food.CapabilityFood;
+import net.dries007.tfc.api.recipes.RecipeIndex;
 import net.dries007.tfc.api.registries.TFCRegistries;
 import net.dries007.tfc.compat.jei.IJEISimpleRecipe;
 import net.dries007.tfc.objects.inventory.ingredient.IIngredient;
+import net.dries007.tfc.objects.inventory.ingredient.IngredientIndex;
 
 public class QuernRecipe extends IForgeRegistryEntry.Impl<QuernRecipe> implements IJEISimpleRecipe
 {
+    private static final RecipeIndex<QuernRecipe, IngredientIndex<Item, QuernRecipe>> INDEX = new RecipeIndex<>(() -> TFCRegistries.QUERN, recipes -> new IngredientIndex<>(recipes, recipe -> IngredientIndex.getItems(recipe.inputItem)));
+
     @Nullable
     public static QuernRecipe get(ItemStack item)
     {
-        return TFCRegistries.QUERN.getValuesCollection().stream().filter(x -> x.isValidInput(item)).findFirst().orElse(null);
+        IngredientIndex<Item, QuernRecipe> index = INDEX.get();
+        for (int i : index.getCandidates(item.getItem()))
+        {
+            QuernRecipe recipe = index.get(i);
+            if (recipe.isValidInput(item))
+            {
+                return recipe;
+            }
+        }
+        return null;
     }
 
     protected IIngredient<ItemStack> inputItem;
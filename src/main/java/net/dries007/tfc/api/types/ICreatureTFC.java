@@ -73,4 +73,17 @@ public interface ICreatureTFC
     {
         PREDATOR, HUNTABLE, LIVESTOCK
     }
+
+    /**
+     * A spawn weight function which doesn't need an instance of the creature. Register one with {@link net.dries007.tfc.world.classic.WorldEntitySpawnerTFC#registerSpawnRule(Class, SpawnRule)}
+     * Creatures without one still spawn, but need to be constructed every time they are checked
+     */
+    @FunctionalInterface
+    interface SpawnRule
+    {
+        /**
+         * @see ICreatureTFC#getSpawnWeight(Biome, float, float, float, float)
+         */
+        int getSpawnWeight(Biome biome, float temperature, float rainfall, float floraDensity, float floraDiversity);
+    }
 }
@@ -40,6 +40,8 @@ public class Metal extends IForgeRegistryEntry.Impl<Metal>
     @GameRegistry.ObjectHolder("tfc:red_steel")
     public static final Metal RED_STEEL = Helpers.getNull();
 
+    private static int nextIndex = 0;
+
     private final Tier tier;
     private final float specificHeat;
     private final float meltTemp;
@@ -48,6 +50,7 @@ public class Metal extends IForgeRegistryEntry.Impl<Metal>
 
     private final Item.ToolMaterial toolMetal;
     private final IArmorMaterialTFC armorMetal;
+    private final int index = nextIndex++;
 
     /**
      * This is a registry object that will create a number of things.
@@ -115,6 +118,14 @@ public class Metal extends IForgeRegistryEntry.Impl<Metal>
         return MOD_ID + ".types.metal." + getRegistryName().getPath();
     }
 
+    /**
+     * @return an index which is unique to this metal, and fixed when it is created. Used for array backed lookup tables, see {@link net.dries007.tfc.util.collections.VariantTable}
+     */
+    public int getIndex()
+    {
+        return index;
+    }
+
     @SuppressWarnings("ConstantConditions")
     @Override
     public String toString()
@@ -150,6 +150,29 @@ public class Plant extends IForgeRegistryEntry.Impl<Plant>
         return Math.abs(temp - getAvgTemp()) < Float.sum(maxTemp, -minTemp) / 4f;
     }
 
+    /**
+     * @return the range of temperatures this plant generates in, see {@link Plant#isValidTempForWorldGen(float)}
+     */
+    public float getMinWorldGenTemp()
+    {
+        return getAvgTemp() - Float.sum(maxTemp, -minTemp) / 4f;
+    }
+
+    public float getMaxWorldGenTemp()
+    {
+        return getAvgTemp() + Float.sum(maxTemp, -minTemp) / 4f;
+    }
+
+    public float getMinRain()
+    {
+        return minRain;
+    }
+
+    public float getMaxRain()
+    {
+        return maxRain;
+    }
+
     public boolean isValidRain(float rain)
     {
         return getRainValidity(rain) == PlantValidity.VALID;
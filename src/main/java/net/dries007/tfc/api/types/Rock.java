@@ -35,9 +35,12 @@ public class Rock extends IForgeRegistryEntry.Impl<Rock>
     @GameRegistry.ObjectHolder("tfc:limestone")
     public static final Rock LIMESTONE = Helpers.getNull();
 
+    private static int nextIndex = 0;
+
     private final RockCategory rockCategory;
     private final ResourceLocation textureLocation;
     private final boolean isFluxStone;
+    private final int index = nextIndex++;
 
     public Rock(@Nonnull ResourceLocation name, @Nonnull RockCategory rockCategory, boolean isFluxStone)
     {
@@ -77,6 +80,14 @@ public class Rock extends IForgeRegistryEntry.Impl<Rock>
         return isFluxStone;
     }
 
+    /**
+     * @return an index which is unique to this rock, and fixed when it is created. Used for array backed lookup tables, see {@link net.dries007.tfc.util.collections.VariantTable}
+     */
+    public int getIndex()
+    {
+        return index;
+    }
+
     @SuppressWarnings("ConstantConditions")
     @Override
     public String toString()
@@ -28,6 +28,8 @@ public class Tree extends IForgeRegistryEntry.Impl<Tree>
     @GameRegistry.ObjectHolder(MOD_ID + ":sequoia")
     public static final Tree SEQUOIA = Helpers.getNull();
 
+    private static int nextIndex = 0;
+
     private final int maxGrowthRadius;
     private final float dominance;
     private final int maxHeight;
@@ -47,6 +49,7 @@ public class Tree extends IForgeRegistryEntry.Impl<Tree>
 
     /* This is open to be replaced, i.e. for dynamic trees */
     private ITreeGenerator generator;
+    private final int index = nextIndex++;
 
     /**
      * This is a registry object that will create a number of things:
@@ -100,6 +103,14 @@ public class Tree extends IForgeRegistryEntry.Impl<Tree>
         setRegistryName(name);
     }
 
+    /**
+     * @return an index which is unique to this tree, and fixed when it is created. Used for array backed lookup tables, see {@link net.dries007.tfc.util.collections.VariantTable}
+     */
+    public int getIndex()
+    {
+        return index;
+    }
+
     public boolean makeTree(TemplateManager manager, World world, BlockPos pos, Random rand, boolean isWorldGen)
     {
         if (generator.canGenerateTree(world, pos, this))
@@ -124,6 +135,26 @@ public class Tree extends IForgeRegistryEntry.Impl<Tree>
         return minTemp <= temp && maxTemp >= temp && minRain <= rain && maxRain >= rain && minDensity <= density && maxDensity >= density;
     }
 
+    public float getMinTemp()
+    {
+        return minTemp;
+    }
+
+    public float getMaxTemp()
+    {
+        return maxTemp;
+    }
+
+    public float getMinRain()
+    {
+        return minRain;
+    }
+
+    public float getMaxRain()
+    {
+        return maxRain;
+    }
+
     @SuppressWarnings("unused")
     public void setTreeGenerator(ITreeGenerator generator)
     {
@@ -5,22 +5,30 @@
 
 package net.dries007.tfc.client;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
 import java.util.Set;
 
 import net.minecraft.block.Block;
+import net.minecraft.block.state.IBlockState;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.gui.GuiButton;
 import net.minecraft.client.gui.GuiCreateWorld;
 import net.minecraft.client.gui.inventory.GuiInventory;
 import net.minecraft.client.resources.I18n;
+import net.minecraft.entity.Entity;
 import net.minecraft.item.Item;
 import net.minecraft.item.ItemBlock;
 import net.minecraft.item.ItemStack;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.world.IBlockAccess;
 import net.minecraft.world.WorldType;
 import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
 import net.minecraftforge.client.event.GuiScreenEvent;
 import net.minecraftforge.client.event.RenderGameOverlayEvent;
 import net.minecraftforge.client.event.TextureStitchEvent;
@@ -29,6 +37,7 @@ import net.minecraftforge.fml.client.registry.RenderingRegistry;
 import net.minecraftforge.fml.common.Mod;
 import net.minecraftforge.fml.common.eventhandler.EventPriority;
 import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.fml.common.gameevent.TickEvent;
 import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
 import net.minecraftforge.oredict.OreDictionary;
@@ -52,12 +61,14 @@ import net.dries007.tfc.client.render.RenderFallingBlockTFC;
 import net.dries007.tfc.client.render.animal.*;
 import net.dries007.tfc.client.render.projectile.RenderThrownJavelin;
 import net.dries007.tfc.network.PacketSwitchPlayerInventoryTab;
+import net.dries007.tfc.objects.blocks.plants.BlockPlantTFC;
 import net.dries007.tfc.objects.entity.EntityBoatTFC;
 import net.dries007.tfc.objects.entity.EntityFallingBlockTFC;
 import net.dries007.tfc.objects.entity.animal.*;
 import net.dries007.tfc.objects.entity.projectile.EntityThrownJavelin;
 import net.dries007.tfc.util.calendar.CalendarTFC;
 import net.dries007.tfc.util.calendar.Month;
+import net.dries007.tfc.util.climate.ClimateCache;
 import net.dries007.tfc.util.climate.ClimateHelper;
 import net.dries007.tfc.util.climate.ClimateTFC;
 import net.dries007.tfc.util.skills.SmithingSkill;
@@ -70,6 +81,10 @@ import static net.minecraft.util.text.TextFormatting.*;
 @Mod.EventBusSubscriber(value = Side.CLIENT, modid = MOD_ID)
 public class ClientEvents
 {
+    private static final int PLANT_UPDATE_CHUNKS_PER_TICK = 16;
+    private static final Deque<ChunkPos> PLANT_UPDATES = new ArrayDeque<>(); // Chunks still to be re-rendered for the current plant appearance, closest first
+    private static int lastPlantAppearance = -1; // The day period and month that plants were last rendered for
+
     public static void preInit()
     {
         RenderingRegistry.registerEntityRenderingHandler(EntityFallingBlockTFC.class, RenderFallingBlockTFC::new);
@@ -210,6 +225,8 @@ public class ClientEvents
                 if (ConfigTFC.General.DEBUG.enable)
                 {
                     list.add(I18n.format("tfc.tooltip.debug_times", CalendarTFC.PLAYER_TIME.getTicks(), CalendarTFC.CALENDAR_TIME.getTicks()));
+                    ClimateCache climateCache = ClimateTFC.getCache();
+                    list.add(I18n.format("tfc.tooltip.debug_climate_cache", climateCache.getSize(), climateCache.getCapacity(), climateCache.getHits(), climateCache.getMisses()));
 
                     if (chunkDataValid)
                     {
@@ -331,6 +348,69 @@ public class ClientEvents
         }
     }
 
+    /**
+     * Plants show the time of day and season through {@link BlockPlantTFC#getActualState(IBlockState, IBlockAccess, BlockPos)}, which is only used when a section is rebuilt.
+     * Rather than the server updating every plant block, the client rebuilds the sections in view when either changes.
+     * Rebuilding every section at once causes a visible hitch, so this is spread over several ticks, closest chunks first, and only non empty sections are rebuilt.
+     */
+    @SubscribeEvent
+    @SideOnly(Side.CLIENT)
+    public static void onClientTick(TickEvent.ClientTickEvent event)
+    {
+        if (event.phase != TickEvent.Phase.END)
+        {
+            return;
+        }
+        Minecraft mc = Minecraft.getMinecraft();
+        Entity viewEntity = mc.getRenderViewEntity();
+        if (mc.world == null || viewEntity == null)
+        {
+            lastPlantAppearance = -1;
+            PLANT_UPDATES.clear();
+            return;
+        }
+        int plantAppearance = CalendarTFC.CALENDAR_TIME.getMonthOfYear().ordinal() * 4 + BlockPlantTFC.getDayPeriod();
+        if (lastPlantAppearance != -1 && lastPlantAppearance != plantAppearance)
+        {
+            // Queue every chunk in view, in rings outwards from the viewer
+            int chunkX = MathHelper.floor(viewEntity.posX) >> 4, chunkZ = MathHelper.floor(viewEntity.posZ) >> 4;
+            int distance = mc.gameSettings.renderDistanceChunks;
+            PLANT_UPDATES.clear();
+            for (int ring = 0; ring <= distance; ring++)
+            {
+                for (int x = chunkX - ring; x <= chunkX + ring; x++)
+                {
+                    for (int z = chunkZ - ring; z <= chunkZ + ring; z++)
+                    {
+                        if (Math.max(Math.abs(x - chunkX), Math.abs(z - chunkZ)) == ring)
+                        {
+                            PLANT_UPDATES.add(new ChunkPos(x, z));
+                        }
+                    }
+                }
+            }
+        }
+        lastPlantAppearance = plantAppearance;
+
+        for (int i = 0; i < PLANT_UPDATE_CHUNKS_PER_TICK && !PLANT_UPDATES.isEmpty(); i++)
+        {
+            ChunkPos pos = PLANT_UPDATES.poll();
+            Chunk chunk = mc.world.getChunkProvider().getLoadedChunk(pos.x, pos.z);
+            if (chunk != null)
+            {
+                for (ExtendedBlockStorage section : chunk.getBlockStorageArray())
+                {
+                    if (section != Chunk.NULL_BLOCK_STORAGE && !section.isEmpty())
+                    {
+                        // The range is expanded by one block on each side, so this is exactly one section
+                        int x = pos.getXStart(), y = section.getYLocation(), z = pos.getZStart();
+                        mc.renderGlobal.markBlockRangeForRenderUpdate(x + 1, y + 1, z + 1, x + 14, y + 14, z + 14);
+                    }
+                }
+            }
+        }
+    }
+
     @SubscribeEvent
     @SideOnly(Side.CLIENT)
     public static void textureStitched(TextureStitchEvent.Post event)
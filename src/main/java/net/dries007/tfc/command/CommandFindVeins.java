@@ -10,10 +10,14 @@ import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import javax.annotation.ParametersAreNonnullByDefault;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import net.minecraft.command.CommandBase;
 import net.minecraft.command.CommandException;
 import net.minecraft.command.ICommandSender;
@@ -30,8 +34,10 @@ import net.minecraftforge.common.DimensionManager;
 import net.minecraftforge.common.WorldWorkerManager;
 
 import gnu.trove.map.hash.TObjectIntHashMap;
+import net.dries007.tfc.TerraFirmaCraft;
 import net.dries007.tfc.api.types.Rock;
 import net.dries007.tfc.world.classic.chunkdata.ChunkDataTFC;
+import net.dries007.tfc.world.classic.chunkdata.RegionChunkDataReader;
 import net.dries007.tfc.world.classic.worldgen.vein.VeinRegistry;
 import net.dries007.tfc.world.classic.worldgen.vein.VeinType;
 
@@ -57,7 +63,7 @@ public class CommandFindVeins extends CommandBase
     {
         if (sender.getCommandSenderEntity() == null)
             throw new WrongUsageException("tfc.command.findveins.usage_expected_player");
-        if (args.length != 2 && args.length != 3) throw new WrongUsageException("tfc.command.findveins.usage");
+        if (args.length < 2 || args.length > 4) throw new WrongUsageException("tfc.command.findveins.usage");
 
         VeinType filter;
         if ("all".equals(args[0]))
@@ -77,16 +83,22 @@ public class CommandFindVeins extends CommandBase
 
         int type = 0;
         boolean generated = false;
-        if (args.length >= 3)
+        boolean offline = false;
+        for (int i = 2; i < args.length; i++)
         {
-            generated = true;
-            if (args[2].equalsIgnoreCase("dump"))
+            if (args[i].equalsIgnoreCase("offline"))
             {
+                offline = true;
+            }
+            else if (args[i].equalsIgnoreCase("dump") && type == 0)
+            {
+                generated = true;
                 type = 1;
                 sender.sendMessage(new TextComponentTranslation("tfc.command.findveins.dump_veins"));
             }
-            else if (args[2].equalsIgnoreCase("rate"))
+            else if (args[i].equalsIgnoreCase("rate") && type == 0)
             {
+                generated = true;
                 type = 2;
                 sender.sendMessage(new TextComponentTranslation("tfc.command.findveins.rate_veins"));
             }
@@ -99,6 +111,13 @@ public class CommandFindVeins extends CommandBase
         final int radius = parseInt(args[1], 1, 1000);
         final int chunkX = sender.getCommandSenderEntity().chunkCoordX;
         final int chunkZ = sender.getCommandSenderEntity().chunkCoordZ;
+        if (offline)
+        {
+            // Reads saved chunk data from the region files, on other threads, without loading any chunks
+            File regionFolder = new File(DimensionManager.getCurrentSaveRootDirectory(), "region"); // Dimension 0, see Worker#DIMENSION
+            new OfflineScan(server, new VeinCollector(sender, filter, type), regionFolder, chunkX, chunkZ, radius).start();
+            return;
+        }
         BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos(0, 0, 0);
         for (int x = chunkX - radius; x <= chunkX + radius; x++)
         {
@@ -130,19 +149,20 @@ public class CommandFindVeins extends CommandBase
         {
             return getListOfStringsMatchingLastWord(args, VeinRegistry.INSTANCE.keySet());
         }
-        else if (args.length == 3)
+        else if (args.length == 3 || args.length == 4)
         {
-            return getListOfStringsMatchingLastWord(args, "dump", "rate");
+            return getListOfStringsMatchingLastWord(args, "dump", "rate", "offline");
         }
         return Collections.emptyList();
     }
 
-    private static class Worker implements WorldWorkerManager.IWorker
+    /**
+     * Handles the output for every chunk found, for both the live worker and the offline scan
+     * Must only be used on the server thread
+     */
+    private static class VeinCollector
     {
-        private static final int DIMENSION = 0; // In TFC, veins can only be generated in dimension 0. Should this change in the future, please update this accordingly
         private final ICommandSender listener;
-        private final List<ChunkPos> chunks;
-        private final int jobSize;
         private final VeinType filter; // null if any, a vein type to filter out all other veins
 
         private final Set<BlockPos> veinsFound = new HashSet<>(); // Using BlockPos instead of vein objs lowers ram usage
@@ -160,6 +180,148 @@ public class CommandFindVeins extends CommandBase
         private final TObjectIntHashMap<VeinType> veinRateMap = new TObjectIntHashMap<>();
         private final TObjectIntHashMap<Rock> rockRateMap = new TObjectIntHashMap<>();
 
+        private VeinCollector(ICommandSender listener, @Nullable VeinType filter, int type)
+        {
+            this.listener = listener;
+            this.filter = filter;
+            this.type = type;
+        }
+
+        private void accept(ChunkDataTFC chunkData)
+        {
+            chunkData.getGeneratedVeins().stream()
+                .filter(vein -> !veinsFound.contains(vein.getPos()))
+                .filter(vein -> filter == null || filter.equals(vein.getType()))
+                .forEach(vein ->
+                {
+                    veinsFound.add(vein.getPos());
+                    String veinName = "Unregistered Vein";
+                    if (vein.getType() != null)
+                    {
+                        veinName = vein.getType().getRegistryName();
+                    }
+                    if (type == 0)
+                    {
+                        listener.sendMessage(new TextComponentTranslation("tfc.command.findveins.output", veinName, vein.getPos()));
+                    }
+                    else if (type == 1)
+                    {
+                        outputLog.add(String.format("Found %s at %s", veinName, vein.getPos()));
+                    }
+                    else if (type == 2 && vein.getType() != null)
+                    {
+                        int count = 1;
+                        if (veinRateMap.containsKey(vein.getType()))
+                        {
+                            count += veinRateMap.get(vein.getType());
+                        }
+                        veinRateMap.put(vein.getType(), count);
+                    }
+                });
+
+            if (type == 2)
+            {
+                // Also count rock layers
+                Rock rock1 = chunkData.getRockLayer1(8, 8); // Grabbing the middle is fine
+                Rock rock2 = chunkData.getRockLayer2(8, 8);
+                Rock rock3 = chunkData.getRockLayer3(8, 8);
+
+                int value = 1;
+                if (rockRateMap.containsKey(rock1))
+                {
+                    value += rockRateMap.get(rock1);
+                }
+                rockRateMap.put(rock1, value);
+
+                value = 1;
+                if (rockRateMap.containsKey(rock2))
+                {
+                    value += rockRateMap.get(rock2);
+                }
+                rockRateMap.put(rock2, value);
+
+                value = 1;
+                if (rockRateMap.containsKey(rock3))
+                {
+                    value += rockRateMap.get(rock3);
+                }
+                rockRateMap.put(rock3, value);
+            }
+        }
+
+        private void notifyRemaining(String translationKey, int remaining, int total)
+        {
+            if (type > 0)
+            {
+                listener.sendMessage(new TextComponentTranslation(translationKey, remaining, total));
+            }
+        }
+
+        private void finish()
+        {
+            if (type == 1)
+            {
+                final String fileName = "tfc-veins-dump.log";
+                final File file = new File(fileName);
+                try (BufferedWriter writer = new BufferedWriter(new FileWriter(file)))
+                {
+                    for (String line : outputLog)
+                    {
+                        writer.write(line);
+                        writer.newLine();
+                    }
+
+                    listener.sendMessage(new TextComponentTranslation("tfc.command.findveins.output_file", file.getAbsolutePath()));
+                }
+                catch (IOException error)
+                {
+                    listener.sendMessage(new TextComponentTranslation("tfc.command.findveins.output_file.error", error.toString()));
+                }
+
+            }
+            else if (type == 2)
+            {
+                final String fileName = "tfc-veins-rate.log";
+                final File file = new File(fileName);
+                try (BufferedWriter writer = new BufferedWriter(new FileWriter(file)))
+                {
+                    writer.write("Found Veins: ");
+                    writer.newLine();
+                    for (VeinType veinType : veinRateMap.keySet())
+                    {
+                        String line = String.format("%s: %d", veinType.getRegistryName(), veinRateMap.get(veinType));
+                        writer.write(line);
+                        writer.newLine();
+                    }
+
+                    writer.newLine();
+                    writer.write("Found Rock Layers (chunks): ");
+                    writer.newLine();
+
+                    for (Rock rock : rockRateMap.keySet())
+                    {
+                        String line = String.format("%s: %d", rock, rockRateMap.get(rock));
+                        writer.write(line);
+                        writer.newLine();
+                    }
+
+                    listener.sendMessage(new TextComponentTranslation("tfc.command.findveins.output_file", file.getAbsolutePath()));
+                }
+                catch (IOException error)
+                {
+                    listener.sendMessage(new TextComponentTranslation("tfc.command.findveins.output_file.error", error.toString()));
+                }
+            }
+        }
+    }
+
+    private static class Worker implements WorldWorkerManager.IWorker
+    {
+        private static final int DIMENSION = 0; // In TFC, veins can only be generated in dimension 0. Should this change in the future, please update this accordingly
+        private final ICommandSender listener;
+        private final List<ChunkPos> chunks;
+        private final int jobSize;
+        private final VeinCollector collector;
 
         private long lastNotifcationTime;
         private Boolean keepingLoaded;
@@ -169,8 +331,7 @@ public class CommandFindVeins extends CommandBase
             this.listener = listener;
             this.chunks = chunks;
             this.jobSize = chunks.size();
-            this.type = type;
-            this.filter = filter;
+            this.collector = new VeinCollector(listener, filter, type);
             lastNotifcationTime = 0;
             keepingLoaded = false;
         }
@@ -204,10 +365,7 @@ public class CommandFindVeins extends CommandBase
                 // Slowing down notification to not spam the same value too much
                 if (lastNotifcationTime < System.currentTimeMillis() - 10000) // 10 sec notification
                 {
-                    if (type > 0)
-                    {
-                        this.listener.sendMessage(new TextComponentTranslation("tfc.command.findveins.remaining_chunks", chunks.size(), jobSize));
-                    }
+                    collector.notifyRemaining("tfc.command.findveins.remaining_chunks", chunks.size(), jobSize);
                     lastNotifcationTime = System.currentTimeMillis();
                 }
                 return false;
@@ -219,10 +377,7 @@ public class CommandFindVeins extends CommandBase
             {
                 if (lastNotifcationTime < System.currentTimeMillis() - 5000) // 5 sec notification
                 {
-                    if (type > 0)
-                    {
-                        this.listener.sendMessage(new TextComponentTranslation("tfc.command.findveins.remaining_chunks", chunks.size(), jobSize));
-                    }
+                    collector.notifyRemaining("tfc.command.findveins.remaining_chunks", chunks.size(), jobSize);
                     lastNotifcationTime = System.currentTimeMillis();
                 }
 
@@ -233,66 +388,7 @@ public class CommandFindVeins extends CommandBase
                 }
 
                 Chunk target = world.getChunk(next.x, next.z);
-                ChunkDataTFC chunkData = ChunkDataTFC.get(target);
-
-                chunkData.getGeneratedVeins().stream()
-                    .filter(vein -> !veinsFound.contains(vein.getPos()))
-                    .filter(vein -> filter == null || filter.equals(vein.getType()))
-                    .forEach(vein ->
-                    {
-                        veinsFound.add(vein.getPos());
-                        String veinName = "Unregistered Vein";
-                        if (vein.getType() != null)
-                        {
-                            veinName = vein.getType().getRegistryName();
-                        }
-                        if (type == 0)
-                        {
-                            listener.sendMessage(new TextComponentTranslation("tfc.command.findveins.output", veinName, vein.getPos()));
-                        }
-                        else if (type == 1)
-                        {
-                            outputLog.add(String.format("Found %s at %s", veinName, vein.getPos()));
-                        }
-                        else if (type == 2 && vein.getType() != null)
-                        {
-                            int count = 1;
-                            if (veinRateMap.containsKey(vein.getType()))
-                            {
-                                count += veinRateMap.get(vein.getType());
-                            }
-                            veinRateMap.put(vein.getType(), count);
-                        }
-                    });
-
-                if (type == 2)
-                {
-                    // Also count rock layers
-                    Rock rock1 = chunkData.getRockLayer1(8, 8); // Grabbing the middle is fine
-                    Rock rock2 = chunkData.getRockLayer2(8, 8);
-                    Rock rock3 = chunkData.getRockLayer3(8, 8);
-
-                    int value = 1;
-                    if (rockRateMap.containsKey(rock1))
-                    {
-                        value += rockRateMap.get(rock1);
-                    }
-                    rockRateMap.put(rock1, value);
-
-                    value = 1;
-                    if (rockRateMap.containsKey(rock2))
-                    {
-                        value += rockRateMap.get(rock2);
-                    }
-                    rockRateMap.put(rock2, value);
-
-                    value = 1;
-                    if (rockRateMap.containsKey(rock3))
-                    {
-                        value += rockRateMap.get(rock3);
-                    }
-                    rockRateMap.put(rock3, value);
-                }
+                collector.accept(ChunkDataTFC.get(target));
 
                 PlayerChunkMapEntry watchers = world.getPlayerChunkMap().getEntry(target.x, target.z);
                 if (watchers == null) //If there are no players watching this, this will be null, so we can unload.
@@ -303,67 +399,98 @@ public class CommandFindVeins extends CommandBase
 
             if (chunks.isEmpty())
             {
-                if (type == 1)
+                collector.finish();
+                if (keepingLoaded)
                 {
-                    final String fileName = "tfc-veins-dump.log";
-                    final File file = new File(fileName);
-                    try (BufferedWriter writer = new BufferedWriter(new FileWriter(file)))
-                    {
-                        for (String line : outputLog)
-                        {
-                            writer.write(line);
-                            writer.newLine();
-                        }
+                    DimensionManager.keepDimensionLoaded(DIMENSION, false);
+                }
+                return false;
+            }
+            return true;
+        }
+    }
 
-                        listener.sendMessage(new TextComponentTranslation("tfc.command.findveins.output_file", file.getAbsolutePath()));
-                    }
-                    catch (IOException error)
-                    {
-                        listener.sendMessage(new TextComponentTranslation("tfc.command.findveins.output_file.error", error.toString()));
-                    }
+    /**
+     * Reads the chunk data of every chunk in range straight from the region files, in parallel, one region file per task
+     * Results are handed back to the server thread one region at a time. Chunks that are loaded and not saved yet may be out of date or missing.
+     */
+    private static class OfflineScan
+    {
+        private static final int MAX_THREADS = 4;
 
-                }
-                else if (type == 2)
-                {
-                    final String fileName = "tfc-veins-rate.log";
-                    final File file = new File(fileName);
-                    try (BufferedWriter writer = new BufferedWriter(new FileWriter(file)))
-                    {
-                        writer.write("Found Veins: ");
-                        writer.newLine();
-                        for (VeinType veinType : veinRateMap.keySet())
-                        {
-                            String line = String.format("%s: %d", veinType.getRegistryName(), veinRateMap.get(veinType));
-                            writer.write(line);
-                            writer.newLine();
-                        }
+        private final MinecraftServer server;
+        private final VeinCollector collector;
+        private final File regionFolder;
+        private final int minX, maxX, minZ, maxZ;
 
-                        writer.newLine();
-                        writer.write("Found Rock Layers (chunks): ");
-                        writer.newLine();
+        private long lastNotificationTime;
 
-                        for (Rock rock : rockRateMap.keySet())
-                        {
-                            String line = String.format("%s: %d", rock, rockRateMap.get(rock));
-                            writer.write(line);
-                            writer.newLine();
-                        }
+        private OfflineScan(MinecraftServer server, VeinCollector collector, File regionFolder, int chunkX, int chunkZ, int radius)
+        {
+            this.server = server;
+            this.collector = collector;
+            this.regionFolder = regionFolder;
+            this.minX = chunkX - radius;
+            this.maxX = chunkX + radius;
+            this.minZ = chunkZ - radius;
+            this.maxZ = chunkZ + radius;
+        }
 
-                        listener.sendMessage(new TextComponentTranslation("tfc.command.findveins.output_file", file.getAbsolutePath()));
-                    }
-                    catch (IOException error)
+        private void start()
+        {
+            final List<File> regionFiles = new ArrayList<>();
+            for (int regionX = minX >> 5; regionX <= maxX >> 5; regionX++)
+            {
+                for (int regionZ = minZ >> 5; regionZ <= maxZ >> 5; regionZ++)
+                {
+                    File regionFile = new File(regionFolder, "r." + regionX + "." + regionZ + ".mca");
+                    if (regionFile.isFile())
                     {
-                        listener.sendMessage(new TextComponentTranslation("tfc.command.findveins.output_file.error", error.toString()));
+                        regionFiles.add(regionFile);
                     }
                 }
-                if (keepingLoaded)
-                {
-                    DimensionManager.keepDimensionLoaded(DIMENSION, false);
-                }
-                return false;
             }
-            return true;
+            if (regionFiles.isEmpty())
+            {
+                collector.finish();
+                return;
+            }
+
+            final AtomicInteger remaining = new AtomicInteger(regionFiles.size());
+            final int threads = Math.min(regionFiles.size(), Math.min(MAX_THREADS, Math.max(1, Runtime.getRuntime().availableProcessors() - 1)));
+            final ExecutorService executor = Executors.newFixedThreadPool(threads, new ThreadFactoryBuilder().setNameFormat("TFC Vein Scanner %d").setDaemon(true).build());
+            for (File regionFile : regionFiles)
+            {
+                executor.execute(() -> {
+                    final List<ChunkDataTFC> found = new ArrayList<>();
+                    try
+                    {
+                        RegionChunkDataReader.read(regionFile, pos -> pos.x >= minX && pos.x <= maxX && pos.z >= minZ && pos.z <= maxZ, (pos, chunkData) -> found.add(chunkData));
+                    }
+                    catch (IOException | RuntimeException e)
+                    {
+                        TerraFirmaCraft.getLog().warn("Unable to read region file {}", regionFile, e);
+                    }
+                    finally
+                    {
+                        // Always count down, even if this region failed, so the scan finishes
+                        server.addScheduledTask(() -> {
+                            found.forEach(collector::accept);
+                            int left = remaining.decrementAndGet();
+                            if (left == 0)
+                            {
+                                collector.finish();
+                            }
+                            else if (lastNotificationTime < System.currentTimeMillis() - 5000) // 5 sec notification
+                            {
+                                collector.notifyRemaining("tfc.command.findveins.remaining_regions", left, regionFiles.size());
+                                lastNotificationTime = System.currentTimeMillis();
+                            }
+                        });
+                    }
+                });
+            }
+            executor.shutdown();
         }
     }
 }
-
@@ -0,0 +1,63 @@
+/*
+ * Work under Copyright. Licensed under the EUPL.
+ * See the project README.md and LICENSE.txt for more information.
+ */
+
+package net.dries007.tfc.command;
+
+import javax.annotation.Nonnull;
+import javax.annotation.ParametersAreNonnullByDefault;
+
+import net.minecraft.command.CommandBase;
+import net.minecraft.command.CommandException;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.command.WrongUsageException;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.text.TextComponentTranslation;
+import net.minecraft.world.World;
+import net.minecraft.world.WorldServer;
+import net.minecraft.world.gen.IChunkGenerator;
+
+import net.dries007.tfc.world.classic.ChunkGenTFC;
+import net.dries007.tfc.world.classic.genlayers.GenLayerTileCache;
+
+@ParametersAreNonnullByDefault
+public class CommandLayerCache extends CommandBase
+{
+    @Override
+    @Nonnull
+    public String getName()
+    {
+        return "tfclayercache";
+    }
+
+    @Override
+    @Nonnull
+    public String getUsage(ICommandSender sender)
+    {
+        return "tfc.command.layercache.usage";
+    }
+
+    @Override
+    public void execute(MinecraftServer server, ICommandSender sender, String[] args) throws CommandException
+    {
+        World world = sender.getEntityWorld();
+        IChunkGenerator generator = world instanceof WorldServer ? ((WorldServer) world).getChunkProvider().chunkGenerator : null;
+        if (!(generator instanceof ChunkGenTFC))
+        {
+            throw new WrongUsageException("tfc.command.layercache.failed");
+        }
+
+        GenLayerTileCache cache = ((ChunkGenTFC) generator).getLayerCache();
+        long hits = cache.getHits(), misses = cache.getMisses();
+        double hitRate = hits + misses == 0 ? 0 : 100.0 * hits / (hits + misses);
+        sender.sendMessage(new TextComponentTranslation("tfc.command.layercache.tiles", cache.getSize(), cache.getCapacity(), cache.getMemoryUsage() / (1024 * 1024)));
+        sender.sendMessage(new TextComponentTranslation("tfc.command.layercache.hit_rate", hits, misses, String.format("%.1f", hitRate)));
+    }
+
+    @Override
+    public int getRequiredPermissionLevel()
+    {
+        return 2;
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Work under Copyright. Licensed under the EUPL.
+ * See the project README.md and LICENSE.txt for more information.
+ */
+
+package net.dries007.tfc.command;
+
+import javax.annotation.Nonnull;
+import javax.annotation.ParametersAreNonnullByDefault;
+
+import net.minecraft.command.CommandBase;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.text.TextComponentTranslation;
+import net.minecraft.world.World;
+
+import net.dries007.tfc.objects.te.TEScheduler;
+
+@ParametersAreNonnullByDefault
+public class CommandTileTicks extends CommandBase
+{
+    @Override
+    @Nonnull
+    public String getName()
+    {
+        return "tfctileticks";
+    }
+
+    @Override
+    @Nonnull
+    public String getUsage(ICommandSender sender)
+    {
+        return "tfc.command.tileticks.usage";
+    }
+
+    @Override
+    public void execute(MinecraftServer server, ICommandSender sender, String[] args)
+    {
+        World world = sender.getEntityWorld();
+        sender.sendMessage(new TextComponentTranslation("tfc.command.tileticks.result", world.tickableTileEntities.size(), TEScheduler.getScheduled(world)));
+    }
+
+    @Override
+    public int getRequiredPermissionLevel()
+    {
+        return 2;
+    }
+}
@@ -5,7 +5,6 @@
 
 package net.dries007.tfc.network;
 
-import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.util.math.ChunkPos;
 import net.minecraft.world.World;
 import net.minecraft.world.chunk.Chunk;
@@ -15,48 +14,75 @@ import net.minecraftforge.fml.common.network.simpleimpl.IMessageHandler;
 import net.minecraftforge.fml.common.network.simpleimpl.MessageContext;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import net.dries007.tfc.TerraFirmaCraft;
 import net.dries007.tfc.util.climate.ClimateTFC;
 import net.dries007.tfc.world.classic.chunkdata.ChunkDataProvider;
 import net.dries007.tfc.world.classic.chunkdata.ChunkDataTFC;
 
+/**
+ * Sends the client side chunk data for a batch of chunks
+ * Each chunk is written with {@link ChunkDataTFC#writeClientData(ByteBuf)}, which is read directly into the client chunk's capability on the main thread.
+ */
 public class PacketChunkData implements IMessage
 {
-    private NBTTagCompound nbt;
-    private int x, z;
-    private float regionalTemp, rainfall;
+    public static final int MAX_CHUNKS = 32;
+
+    private ByteBuf chunks;
+    private int count;
+    private byte[] payload;
 
-    @SuppressWarnings("unused")
-    @Deprecated
     public PacketChunkData() {}
 
-    public PacketChunkData(ChunkPos chunkPos, NBTTagCompound nbt, float regionalTemp, float rainfall)
+    /**
+     * Chunks are encoded as they are added, on the server thread, as the packet itself may be encoded later on a network thread
+     */
+    public void add(ChunkPos pos, ChunkDataTFC data)
     {
-        this.x = chunkPos.x;
-        this.z = chunkPos.z;
-        this.nbt = nbt;
-        this.regionalTemp = regionalTemp;
-        this.rainfall = rainfall;
+        if (chunks == null)
+        {
+            chunks = Unpooled.buffer();
+        }
+        chunks.writeInt(pos.x);
+        chunks.writeInt(pos.z);
+        data.writeClientData(chunks);
+        count++;
+    }
+
+    public boolean isFull()
+    {
+        return count >= MAX_CHUNKS;
+    }
+
+    public int getCount()
+    {
+        return count;
+    }
+
+    /**
+     * @return the number of bytes used by the chunks in this packet, not including the count or packet header
+     */
+    public int getEncodedSize()
+    {
+        return chunks == null ? 0 : chunks.readableBytes();
     }
 
     @Override
     public void fromBytes(ByteBuf buf)
     {
-        x = buf.readInt();
-        z = buf.readInt();
-        nbt = ByteBufUtils.readTag(buf);
-        regionalTemp = buf.readFloat();
-        rainfall = buf.readFloat();
+        // Decoding needs the client chunks, so wait until the handler is on the main thread
+        payload = new byte[buf.readableBytes()];
+        buf.readBytes(payload);
     }
 
     @Override
     public void toBytes(ByteBuf buf)
     {
-        buf.writeInt(x);
-        buf.writeInt(z);
-        ByteBufUtils.writeTag(buf, nbt);
-        buf.writeFloat(regionalTemp);
-        buf.writeFloat(rainfall);
+        ByteBufUtils.writeVarInt(buf, count, 5);
+        if (chunks != null)
+        {
+            buf.writeBytes(chunks, chunks.readerIndex(), chunks.readableBytes());
+        }
     }
 
     public static class Handler implements IMessageHandler<PacketChunkData, IMessage>
@@ -68,16 +94,22 @@ public class PacketChunkData implements IMessage
             if (world != null)
             {
                 TerraFirmaCraft.getProxy().getThreadListener(ctx).addScheduledTask(() -> {
-                    // Update client-side chunk data capability
-                    Chunk chunk = world.getChunk(message.x, message.z);
-                    ChunkDataTFC data = chunk.getCapability(ChunkDataProvider.CHUNK_DATA_CAPABILITY, null);
-                    if (data != null)
+                    ByteBuf buf = Unpooled.wrappedBuffer(message.payload);
+                    int count = ByteBufUtils.readVarInt(buf, 5);
+                    for (int i = 0; i < count; i++)
                     {
-                        ChunkDataProvider.CHUNK_DATA_CAPABILITY.readNBT(data, null, message.nbt);
-                    }
+                        // Update client-side chunk data capability
+                        Chunk chunk = world.getChunk(buf.readInt(), buf.readInt());
+                        ChunkDataTFC data = chunk.getCapability(ChunkDataProvider.CHUNK_DATA_CAPABILITY, null);
+                        if (data == null)
+                        {
+                            data = new ChunkDataTFC(); // Still needs to be read, to get to the next chunk
+                        }
+                        data.readClientData(buf);
 
-                    // Update climate cache
-                    ClimateTFC.update(chunk.getPos(), message.regionalTemp, message.rainfall);
+                        // Update climate cache
+                        ClimateTFC.update(chunk.getPos(), data.getRegionalTemp(), data.getRainfall());
+                    }
                 });
             }
             return null;
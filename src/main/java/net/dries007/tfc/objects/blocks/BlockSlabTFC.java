@@ -5,9 +5,6 @@
 
 package net.dries007.tfc.objects.blocks;
 
-import java.util.EnumMap;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Random;
 import javax.annotation.ParametersAreNonnullByDefault;
 
@@ -32,6 +29,7 @@ import net.dries007.tfc.api.types.Tree;
 import net.dries007.tfc.objects.blocks.stone.BlockRockVariant;
 import net.dries007.tfc.objects.blocks.wood.BlockPlanksTFC;
 import net.dries007.tfc.util.OreDictionaryHelper;
+import net.dries007.tfc.util.collections.VariantTable;
 
 @MethodsReturnNonnullByDefault
 @ParametersAreNonnullByDefault
@@ -168,12 +166,12 @@ public abstract class BlockSlabTFC extends BlockSlab
 
     public static class Double extends BlockSlabTFC
     {
-        private static final Map<Rock, EnumMap<Rock.Type, Double>> ROCK_TABLE = new HashMap<>();
-        private static final Map<Tree, Double> WOOD_MAP = new HashMap<>();
+        private static final VariantTable<Rock, Double> ROCK_TABLE = new VariantTable<>(Rock::getIndex, Rock.Type.values().length);
+        private static final VariantTable<Tree, Double> WOOD_MAP = new VariantTable<>(Tree::getIndex);
 
         public static Double get(Rock rock, Rock.Type type)
         {
-            return ROCK_TABLE.get(rock).get(type);
+            return ROCK_TABLE.get(rock, type.ordinal());
         }
 
         public static Double get(Tree wood)
@@ -185,9 +183,7 @@ public abstract class BlockSlabTFC extends BlockSlab
         {
             super(rock, type);
 
-            if (!ROCK_TABLE.containsKey(rock))
-                ROCK_TABLE.put(rock, new EnumMap<>(Rock.Type.class));
-            ROCK_TABLE.get(rock).put(type, this);
+            ROCK_TABLE.put(rock, type.ordinal(), this);
 
             // No oredict, because no item.
         }
@@ -208,12 +204,12 @@ public abstract class BlockSlabTFC extends BlockSlab
 
     public static class Half extends BlockSlabTFC
     {
-        private static final Map<Rock, EnumMap<Rock.Type, Half>> ROCK_TABLE = new HashMap<>();
-        private static final Map<Tree, Half> WOOD_MAP = new HashMap<>();
+        private static final VariantTable<Rock, Half> ROCK_TABLE = new VariantTable<>(Rock::getIndex, Rock.Type.values().length);
+        private static final VariantTable<Tree, Half> WOOD_MAP = new VariantTable<>(Tree::getIndex);
 
         public static Half get(Rock rock, Rock.Type type)
         {
-            return ROCK_TABLE.get(rock).get(type);
+            return ROCK_TABLE.get(rock, type.ordinal());
         }
 
         public static Half get(Tree wood)
@@ -227,9 +223,7 @@ public abstract class BlockSlabTFC extends BlockSlab
         {
             super(rock, type);
 
-            if (!ROCK_TABLE.containsKey(rock))
-                ROCK_TABLE.put(rock, new EnumMap<>(Rock.Type.class));
-            ROCK_TABLE.get(rock).put(type, this);
+            ROCK_TABLE.put(rock, type.ordinal(), this);
 
             doubleSlab = Double.get(rock, type);
             doubleSlab.halfSlab = this;
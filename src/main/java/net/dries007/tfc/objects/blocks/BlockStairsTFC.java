@@ -5,9 +5,6 @@
 
 package net.dries007.tfc.objects.blocks;
 
-import java.util.EnumMap;
-import java.util.HashMap;
-import java.util.Map;
 import javax.annotation.Nonnull;
 
 import net.minecraft.block.Block;
@@ -22,15 +19,16 @@ import net.dries007.tfc.api.types.Tree;
 import net.dries007.tfc.objects.blocks.stone.BlockRockVariant;
 import net.dries007.tfc.objects.blocks.wood.BlockPlanksTFC;
 import net.dries007.tfc.util.OreDictionaryHelper;
+import net.dries007.tfc.util.collections.VariantTable;
 
 public class BlockStairsTFC extends BlockStairs
 {
-    private static final Map<Rock, EnumMap<Rock.Type, BlockStairsTFC>> ROCK_TABLE = new HashMap<>();
-    private static final Map<Tree, BlockStairsTFC> WOOD_MAP = new HashMap<>();
+    private static final VariantTable<Rock, BlockStairsTFC> ROCK_TABLE = new VariantTable<>(Rock::getIndex, Rock.Type.values().length);
+    private static final VariantTable<Tree, BlockStairsTFC> WOOD_MAP = new VariantTable<>(Tree::getIndex);
 
     public static BlockStairsTFC get(Rock rock, Rock.Type type)
     {
-        return ROCK_TABLE.get(rock).get(type);
+        return ROCK_TABLE.get(rock, type.ordinal());
     }
 
     public static BlockStairsTFC get(Tree wood)
@@ -42,9 +40,7 @@ public class BlockStairsTFC extends BlockStairs
     {
         super(BlockRockVariant.get(rock, type).getDefaultState());
 
-        if (!ROCK_TABLE.containsKey(rock))
-            ROCK_TABLE.put(rock, new EnumMap<>(Rock.Type.class));
-        ROCK_TABLE.get(rock).put(type, this);
+        ROCK_TABLE.put(rock, type.ordinal(), this);
 
         Block baseBlock = BlockRockVariant.get(rock, type);
         //noinspection ConstantConditions
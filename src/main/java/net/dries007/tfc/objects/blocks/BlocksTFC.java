@@ -5,6 +5,8 @@
 
 package net.dries007.tfc.objects.blocks;
 
+import java.util.Arrays;
+
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableList.Builder;
 import net.minecraft.block.Block;
@@ -93,6 +95,21 @@ public final class BlocksTFC
     public static final BlockQuern QUERN = getNull();
     public static final BlockIceTFC SEA_ICE = getNull();
 
+    // Block classifications used by the isX() predicates. These are computed once per rock type, as they are checked a lot during world gen
+    private static final int FLAG_RAW_STONE = 1;
+    private static final int FLAG_CLAY = 1 << 1;
+    private static final int FLAG_DIRT = 1 << 2;
+    private static final int FLAG_SAND = 1 << 3;
+    private static final int FLAG_SOIL = 1 << 4;
+    private static final int FLAG_GROWABLE_SOIL = 1 << 5;
+    private static final int FLAG_SOIL_OR_GRAVEL = 1 << 6;
+    private static final int FLAG_GRASS = 1 << 7;
+    private static final int FLAG_DRY_GRASS = 1 << 8;
+    private static final int FLAG_GROUND = 1 << 9;
+    private static final int PEAT_FLAGS = FLAG_SOIL | FLAG_SOIL_OR_GRAVEL;
+    private static final int PEAT_GRASS_FLAGS = PEAT_FLAGS | FLAG_GRASS;
+    private static final int[] ROCK_TYPE_FLAGS = Arrays.stream(Rock.Type.values()).mapToInt(BlocksTFC::computeFlags).toArray();
+
     // All these are for use in model registration. Do not use for block lookups.
     // Use the static get methods in the classes instead.
     private static ImmutableList<ItemBlock> allNormalItemBlocks;
@@ -728,78 +745,81 @@ public final class BlocksTFC
 
     public static boolean isRawStone(IBlockState current)
     {
-        if (!(current.getBlock() instanceof BlockRockVariant)) return false;
-        Rock.Type type = ((BlockRockVariant) current.getBlock()).getType();
-        return type == RAW;
+        return is(current, FLAG_RAW_STONE);
     }
 
     public static boolean isClay(IBlockState current)
     {
-        if (!(current.getBlock() instanceof BlockRockVariant)) return false;
-        Rock.Type type = ((BlockRockVariant) current.getBlock()).getType();
-        return type == CLAY || type == CLAY_GRASS;
+        return is(current, FLAG_CLAY);
     }
 
     public static boolean isDirt(IBlockState current)
     {
-        if (!(current.getBlock() instanceof BlockRockVariant)) return false;
-        Rock.Type type = ((BlockRockVariant) current.getBlock()).getType();
-        return type == DIRT;
+        return is(current, FLAG_DIRT);
     }
 
     public static boolean isSand(IBlockState current)
     {
-        if (!(current.getBlock() instanceof BlockRockVariant)) return false;
-        Rock.Type type = ((BlockRockVariant) current.getBlock()).getType();
-        return type == SAND;
+        return is(current, FLAG_SAND);
     }
 
-    // todo: change to property of type? (soil & stone maybe?)
-
     public static boolean isSoil(IBlockState current)
     {
-        if (current.getBlock() instanceof BlockPeat) return true;
-        if (!(current.getBlock() instanceof BlockRockVariant)) return false;
-        Rock.Type type = ((BlockRockVariant) current.getBlock()).getType();
-        return type == GRASS || type == DRY_GRASS || type == DIRT || type == CLAY || type == CLAY_GRASS;
+        return is(current, FLAG_SOIL);
     }
 
     public static boolean isGrowableSoil(IBlockState current)
     {
-        if (current.getBlock() instanceof BlockPeat) return false;
-        if (!(current.getBlock() instanceof BlockRockVariant)) return false;
-        Rock.Type type = ((BlockRockVariant) current.getBlock()).getType();
-        return type == GRASS || type == DRY_GRASS || type == DIRT || type == CLAY || type == CLAY_GRASS;
+        return is(current, FLAG_GROWABLE_SOIL);
     }
 
     public static boolean isSoilOrGravel(IBlockState current)
     {
-        if (current.getBlock() instanceof BlockPeat) return true;
-        if (!(current.getBlock() instanceof BlockRockVariant)) return false;
-        Rock.Type type = ((BlockRockVariant) current.getBlock()).getType();
-        return type == GRASS || type == DRY_GRASS || type == DIRT || type == GRAVEL;
+        return is(current, FLAG_SOIL_OR_GRAVEL);
     }
 
     public static boolean isGrass(IBlockState current)
     {
-        if (current.getBlock() instanceof BlockPeatGrass) return true;
-        if (!(current.getBlock() instanceof BlockRockVariant)) return false;
-        Rock.Type type = ((BlockRockVariant) current.getBlock()).getType();
-        return type.isGrass;
+        return is(current, FLAG_GRASS);
     }
 
     public static boolean isDryGrass(IBlockState current)
     {
-        if (!(current.getBlock() instanceof BlockRockVariant)) return false;
-        Rock.Type type = ((BlockRockVariant) current.getBlock()).getType();
-        return type == DRY_GRASS;
+        return is(current, FLAG_DRY_GRASS);
     }
 
     public static boolean isGround(IBlockState current)
     {
-        if (!(current.getBlock() instanceof BlockRockVariant)) return false;
-        Rock.Type type = ((BlockRockVariant) current.getBlock()).getType();
-        return type == GRASS || type == DRY_GRASS || type == DIRT || type == GRAVEL || type == RAW || type == SAND;
+        return is(current, FLAG_GROUND);
+    }
+
+    private static boolean is(IBlockState current, int flag)
+    {
+        Block block = current.getBlock();
+        if (block instanceof BlockRockVariant)
+        {
+            return (ROCK_TYPE_FLAGS[((BlockRockVariant) block).getType().ordinal()] & flag) != 0;
+        }
+        if (block instanceof BlockPeat)
+        {
+            return ((block instanceof BlockPeatGrass ? PEAT_GRASS_FLAGS : PEAT_FLAGS) & flag) != 0;
+        }
+        return false;
+    }
+
+    private static int computeFlags(Rock.Type type)
+    {
+        int flags = 0;
+        if (type == RAW) flags |= FLAG_RAW_STONE;
+        if (type == CLAY || type == CLAY_GRASS) flags |= FLAG_CLAY;
+        if (type == DIRT) flags |= FLAG_DIRT;
+        if (type == SAND) flags |= FLAG_SAND;
+        if (type == GRASS || type == DRY_GRASS || type == DIRT || type == CLAY || type == CLAY_GRASS) flags |= FLAG_SOIL | FLAG_GROWABLE_SOIL;
+        if (type == GRASS || type == DRY_GRASS || type == DIRT || type == GRAVEL) flags |= FLAG_SOIL_OR_GRAVEL;
+        if (type.isGrass) flags |= FLAG_GRASS;
+        if (type == DRY_GRASS) flags |= FLAG_DRY_GRASS;
+        if (type == GRASS || type == DRY_GRASS || type == DIRT || type == GRAVEL || type == RAW || type == SAND) flags |= FLAG_GROUND;
+        return flags;
     }
 
     private static <T extends Block> T register(IForgeRegistry<Block> r, String name, T block, CreativeTabs ct)
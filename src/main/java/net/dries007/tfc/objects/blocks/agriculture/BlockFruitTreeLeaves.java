@@ -39,6 +39,7 @@ import net.dries007.tfc.api.types.IFruitTree;
 import net.dries007.tfc.objects.te.TETickCounter;
 import net.dries007.tfc.util.Helpers;
 import net.dries007.tfc.util.OreDictionaryHelper;
+import net.dries007.tfc.util.block.BlockTraversal;
 import net.dries007.tfc.util.calendar.CalendarTFC;
 import net.dries007.tfc.util.calendar.ICalendar;
 import net.dries007.tfc.util.climate.ClimateTFC;
@@ -276,36 +277,23 @@ public class BlockFruitTreeLeaves extends BlockLeaves
             return;
 
 
-        Set<BlockPos> paths = new HashSet<>();
-        Set<BlockPos> evaluated = new HashSet<>(); // Leaves that everything was evaluated so no need to do it again
-        List<BlockPos> pathsToAdd; // New Leaves that needs evaluation
-        BlockPos.MutableBlockPos pos1 = new BlockPos.MutableBlockPos(pos);
-        IBlockState state1;
-        paths.add(pos); // Center block
-
-        for (int i = 0; i < 2; i++)
-        {
-            pathsToAdd = new ArrayList<>();
-            for (BlockPos p1 : paths)
+        // Search through connected leaves, for a path to the tree
+        boolean connected = new BlockTraversal(BlockTraversal.ADJACENT, 2).search(pos, pos1 -> {
+            if (!world.isBlockLoaded(pos1))
             {
-                for (EnumFacing face : EnumFacing.values())
-                {
-                    pos1.setPos(p1).move(face);
-                    if (evaluated.contains(pos1) || !world.isBlockLoaded(pos1))
-                        continue;
-                    state1 = world.getBlockState(pos1);
-                    if (state1.getBlock() == BlockFruitTreeTrunk.get(tree) || state1.getBlock() == BlockFruitTreeBranch.get(tree))
-                        return;
-                    if (state1.getBlock() == this)
-                        pathsToAdd.add(pos1.toImmutable());
-                }
-                evaluated.add(p1); // Evaluated
+                return BlockTraversal.Result.IGNORE;
             }
-            paths.addAll(pathsToAdd);
-            paths.removeAll(evaluated);
+            IBlockState state1 = world.getBlockState(pos1);
+            if (state1.getBlock() == BlockFruitTreeTrunk.get(tree) || state1.getBlock() == BlockFruitTreeBranch.get(tree))
+            {
+                return BlockTraversal.Result.STOP;
+            }
+            return state1.getBlock() == this ? BlockTraversal.Result.CONTINUE : BlockTraversal.Result.IGNORE;
+        });
+        if (!connected)
+        {
+            world.setBlockToAir(pos);
         }
-
-        world.setBlockToAir(pos);
     }
 
     /**
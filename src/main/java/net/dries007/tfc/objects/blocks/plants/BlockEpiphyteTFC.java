@@ -75,7 +75,6 @@ public class BlockEpiphyteTFC extends BlockPlantTFC
     @Override
     public void onBlockAdded(World world, BlockPos pos, IBlockState state)
     {
-        world.setBlockState(pos, state.withProperty(DAYPERIOD, getDayPeriod()).withProperty(growthStageProperty, plant.getStageForMonth()));
         checkAndDropBlock(world, pos, state);
     }
 
@@ -45,7 +45,6 @@ public class BlockFloatingWaterTFC extends BlockPlantTFC
     @Override
     public void onBlockAdded(World world, BlockPos pos, IBlockState state)
     {
-        world.setBlockState(pos, state.withProperty(DAYPERIOD, getDayPeriod()).withProperty(growthStageProperty, plant.getStageForMonth()));
         this.checkAndDropBlock(world, pos, state);
     }
 
@@ -43,7 +43,6 @@ import net.dries007.tfc.objects.blocks.BlocksTFC;
 import net.dries007.tfc.util.OreDictionaryHelper;
 import net.dries007.tfc.util.calendar.CalendarTFC;
 import net.dries007.tfc.util.calendar.ICalendar;
-import net.dries007.tfc.util.calendar.Month;
 import net.dries007.tfc.util.climate.ClimateTFC;
 import net.dries007.tfc.world.classic.chunkdata.ChunkDataTFC;
 
@@ -121,21 +120,7 @@ public class BlockPlantTFC extends BlockBush implements IItemSize
     public void randomTick(World worldIn, BlockPos pos, IBlockState state, Random random)
     {
         if (!worldIn.isAreaLoaded(pos, 1)) return;
-        Month currentMonth = CalendarTFC.CALENDAR_TIME.getMonthOfYear();
-        int currentStage = state.getValue(growthStageProperty);
-        int expectedStage = plant.getStageForMonth(currentMonth);
-        int currentTime = state.getValue(DAYPERIOD);
-        int expectedTime = getDayPeriod();
-
-        if (currentTime != expectedTime)
-        {
-            worldIn.setBlockState(pos, state.withProperty(DAYPERIOD, expectedTime).withProperty(growthStageProperty, currentStage));
-        }
-        if (currentStage != expectedStage && random.nextDouble() < 0.5)
-        {
-            worldIn.setBlockState(pos, state.withProperty(DAYPERIOD, expectedTime).withProperty(growthStageProperty, expectedStage));
-        }
-
+        // The day period and growth stage are only visual, and are resolved by getActualState, see ClientEvents#onClientTick
         this.updateTick(worldIn, pos, state, random);
     }
 
@@ -148,7 +133,6 @@ public class BlockPlantTFC extends BlockBush implements IItemSize
     @Override
     public void onBlockAdded(World world, BlockPos pos, IBlockState state)
     {
-        world.setBlockState(pos, state.withProperty(DAYPERIOD, getDayPeriod()).withProperty(growthStageProperty, plant.getStageForMonth()));
         checkAndDropBlock(world, pos, state);
     }
 
@@ -375,7 +359,7 @@ public class BlockPlantTFC extends BlockBush implements IItemSize
         return new BlockStateContainer(this, growthStageProperty, DAYPERIOD, AGE);
     }
 
-    int getDayPeriod()
+    public static int getDayPeriod()
     {
         return CalendarTFC.CALENDAR_TIME.getHourOfDay() / (ICalendar.HOURS_IN_DAY / 4);
     }
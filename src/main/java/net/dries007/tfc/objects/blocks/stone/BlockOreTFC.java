@@ -29,6 +29,8 @@ import net.minecraftforge.fml.relauncher.SideOnly;
 import net.dries007.tfc.api.types.Ore;
 import net.dries007.tfc.api.types.Rock;
 import net.dries007.tfc.objects.items.metal.ItemOreTFC;
+import net.dries007.tfc.world.classic.chunkdata.ChunkDataTFC;
+import net.dries007.tfc.world.classic.chunkdata.ChunkOreCounts;
 
 @ParametersAreNonnullByDefault
 public class BlockOreTFC extends Block
@@ -81,6 +83,20 @@ public class BlockOreTFC extends Block
         return state.getValue(GRADE).getMeta();
     }
 
+    @Override
+    public void onBlockAdded(World worldIn, BlockPos pos, IBlockState state)
+    {
+        super.onBlockAdded(worldIn, pos, state);
+        updateOreCounts(worldIn, pos, 1);
+    }
+
+    @Override
+    public void breakBlock(World worldIn, BlockPos pos, IBlockState state)
+    {
+        updateOreCounts(worldIn, pos, -1);
+        super.breakBlock(worldIn, pos, state);
+    }
+
     @Override
     @Nonnull
     public Item getItemDropped(IBlockState state, Random rand, int fortune)
@@ -115,4 +131,17 @@ public class BlockOreTFC extends Block
     {
         return new ItemStack(state.getBlock());
     }
-}
\ No newline at end of file
+
+    private void updateOreCounts(World world, BlockPos pos, int amount)
+    {
+        if (!world.isRemote)
+        {
+            // onBlockAdded and breakBlock are called whenever this block is placed or removed, including by world gen
+            ChunkOreCounts oreCounts = ChunkDataTFC.get(world, pos).getOreCounts();
+            if (oreCounts != null)
+            {
+                oreCounts.add(this, pos.getY(), amount);
+            }
+        }
+    }
+}
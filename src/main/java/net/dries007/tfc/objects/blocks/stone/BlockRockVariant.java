@@ -5,9 +5,6 @@
 
 package net.dries007.tfc.objects.blocks.stone;
 
-import java.util.EnumMap;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Random;
 import javax.annotation.Nonnull;
 import javax.annotation.ParametersAreNonnullByDefault;
@@ -41,6 +38,7 @@ import net.dries007.tfc.objects.blocks.agriculture.BlockCropTFC;
 import net.dries007.tfc.objects.blocks.plants.BlockPlantTFC;
 import net.dries007.tfc.objects.items.rock.ItemRock;
 import net.dries007.tfc.util.OreDictionaryHelper;
+import net.dries007.tfc.util.collections.VariantTable;
 
 import static net.dries007.tfc.objects.blocks.agriculture.BlockCropTFC.WILD;
 
@@ -48,16 +46,16 @@ import static net.dries007.tfc.objects.blocks.agriculture.BlockCropTFC.WILD;
 @ParametersAreNonnullByDefault
 public class BlockRockVariant extends Block implements IItemSize
 {
-    private static final Map<Rock, EnumMap<Rock.Type, BlockRockVariant>> TABLE = new HashMap<>();
+    private static final VariantTable<Rock, BlockRockVariant> TABLE = new VariantTable<>(Rock::getIndex, Rock.Type.values().length);
 
     public static BlockRockVariant get(Rock rock, Rock.Type type)
     {
         //noinspection ConstantConditions
         if (rock == null)
         {
-            return TABLE.get(Rock.GRANITE).get(type);
+            return TABLE.get(Rock.GRANITE, type.ordinal());
         }
-        return TABLE.get(rock).get(type);
+        return TABLE.get(rock, type.ordinal());
     }
 
     public static BlockRockVariant create(Rock rock, Rock.Type type)
@@ -94,11 +92,7 @@ public class BlockRockVariant extends Block implements IItemSize
     {
         super(type.material);
 
-        if (!TABLE.containsKey(rock))
-        {
-            TABLE.put(rock, new EnumMap<>(Rock.Type.class));
-        }
-        TABLE.get(rock).put(type, this);
+        TABLE.put(rock, type.ordinal(), this);
 
         this.type = type;
         this.rock = rock;
@@ -152,7 +146,7 @@ public class BlockRockVariant extends Block implements IItemSize
 
     public BlockRockVariant getVariant(Rock.Type t)
     {
-        return TABLE.get(rock).get(t);
+        return TABLE.get(rock, t.ordinal());
     }
 
     @Override
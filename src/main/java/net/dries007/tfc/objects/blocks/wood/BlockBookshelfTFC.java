@@ -5,8 +5,6 @@
 
 package net.dries007.tfc.objects.blocks.wood;
 
-import java.util.HashMap;
-import java.util.Map;
 import javax.annotation.Nonnull;
 
 import net.minecraft.block.Block;
@@ -21,10 +19,11 @@ import net.minecraftforge.fml.relauncher.SideOnly;
 
 import net.dries007.tfc.api.types.Tree;
 import net.dries007.tfc.util.OreDictionaryHelper;
+import net.dries007.tfc.util.collections.VariantTable;
 
 public class BlockBookshelfTFC extends Block
 {
-    private static final Map<Tree, BlockBookshelfTFC> MAP = new HashMap<>();
+    private static final VariantTable<Tree, BlockBookshelfTFC> MAP = new VariantTable<>(Tree::getIndex);
 
     public static BlockBookshelfTFC get(Tree wood)
     {
@@ -5,18 +5,16 @@
 
 package net.dries007.tfc.objects.blocks.wood;
 
-import java.util.HashMap;
-import java.util.Map;
-
 import net.minecraft.block.BlockButtonWood;
 import net.minecraft.block.SoundType;
 import net.minecraft.init.Blocks;
 
 import net.dries007.tfc.api.types.Tree;
+import net.dries007.tfc.util.collections.VariantTable;
 
 public class BlockButtonWoodTFC extends BlockButtonWood
 {
-    private static final Map<Tree, BlockButtonWoodTFC> MAP = new HashMap<>();
+    private static final VariantTable<Tree, BlockButtonWoodTFC> MAP = new VariantTable<>(Tree::getIndex);
 
     public static BlockButtonWoodTFC get(Tree wood)
     {
@@ -5,8 +5,6 @@
 
 package net.dries007.tfc.objects.blocks.wood;
 
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Random;
 import javax.annotation.ParametersAreNonnullByDefault;
 
@@ -26,12 +24,13 @@ import net.minecraft.world.World;
 import mcp.MethodsReturnNonnullByDefault;
 import net.dries007.tfc.api.types.Tree;
 import net.dries007.tfc.objects.items.wood.ItemDoorTFC;
+import net.dries007.tfc.util.collections.VariantTable;
 
 @ParametersAreNonnullByDefault
 @MethodsReturnNonnullByDefault
 public class BlockDoorTFC extends BlockDoor
 {
-    private static final Map<Tree, BlockDoorTFC> MAP = new HashMap<>();
+    private static final VariantTable<Tree, BlockDoorTFC> MAP = new VariantTable<>(Tree::getIndex);
 
     public static BlockDoorTFC get(Tree wood)
     {
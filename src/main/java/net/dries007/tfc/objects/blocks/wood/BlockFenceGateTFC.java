@@ -5,19 +5,17 @@
 
 package net.dries007.tfc.objects.blocks.wood;
 
-import java.util.HashMap;
-import java.util.Map;
-
 import net.minecraft.block.BlockFenceGate;
 import net.minecraft.block.BlockPlanks;
 import net.minecraft.init.Blocks;
 
 import net.dries007.tfc.api.types.Tree;
 import net.dries007.tfc.util.OreDictionaryHelper;
+import net.dries007.tfc.util.collections.VariantTable;
 
 public class BlockFenceGateTFC extends BlockFenceGate
 {
-    private static final Map<Tree, BlockFenceGateTFC> MAP = new HashMap<>();
+    private static final VariantTable<Tree, BlockFenceGateTFC> MAP = new VariantTable<>(Tree::getIndex);
 
     public static BlockFenceGateTFC get(Tree wood)
     {
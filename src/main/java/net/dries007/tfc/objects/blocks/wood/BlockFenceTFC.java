@@ -5,19 +5,17 @@
 
 package net.dries007.tfc.objects.blocks.wood;
 
-import java.util.HashMap;
-import java.util.Map;
-
 import net.minecraft.block.BlockFence;
 import net.minecraft.block.material.Material;
 import net.minecraft.init.Blocks;
 
 import net.dries007.tfc.api.types.Tree;
 import net.dries007.tfc.util.OreDictionaryHelper;
+import net.dries007.tfc.util.collections.VariantTable;
 
 public class BlockFenceTFC extends BlockFence
 {
-    private static final Map<Tree, BlockFenceTFC> MAP = new HashMap<>();
+    private static final VariantTable<Tree, BlockFenceTFC> MAP = new VariantTable<>(Tree::getIndex);
 
     public static BlockFenceTFC get(Tree wood)
     {
@@ -36,11 +36,13 @@ import net.minecraftforge.fml.relauncher.SideOnly;
 import net.dries007.tfc.ConfigTFC;
 import net.dries007.tfc.api.types.Tree;
 import net.dries007.tfc.util.OreDictionaryHelper;
+import net.dries007.tfc.util.block.BlockTraversal;
+import net.dries007.tfc.util.collections.VariantTable;
 
 @ParametersAreNonnullByDefault
 public class BlockLeavesTFC extends BlockLeaves
 {
-    private static final Map<Tree, BlockLeavesTFC> MAP = new HashMap<>();
+    private static final VariantTable<Tree, BlockLeavesTFC> MAP = new VariantTable<>(Tree::getIndex);
 
     public static BlockLeavesTFC get(Tree wood)
     {
@@ -218,35 +220,22 @@ public class BlockLeavesTFC extends BlockLeaves
         if (world.isRemote || !state.getValue(DECAYABLE))
             return;
 
-        Set<BlockPos> paths = new HashSet<>();
-        Set<BlockPos> evaluated = new HashSet<>(); // Leaves that everything was evaluated so no need to do it again
-        List<BlockPos> pathsToAdd; // New Leaves that needs evaluation
-        BlockPos.MutableBlockPos pos1 = new BlockPos.MutableBlockPos(pos);
-        IBlockState state1;
-        paths.add(pos); // Center block
-
-        for (int i = 0; i < wood.getMaxDecayDistance(); i++)
-        {
-            pathsToAdd = new ArrayList<>();
-            for (BlockPos p1 : paths)
+        // Search through connected leaves, for a path to the tree
+        boolean connected = new BlockTraversal(BlockTraversal.ADJACENT, wood.getMaxDecayDistance()).search(pos, pos1 -> {
+            if (!world.isBlockLoaded(pos1))
             {
-                for (EnumFacing face : EnumFacing.values())
-                {
-                    pos1.setPos(p1).move(face);
-                    if (evaluated.contains(pos1) || !world.isBlockLoaded(pos1))
-                        continue;
-                    state1 = world.getBlockState(pos1);
-                    if (state1.getBlock() == BlockLogTFC.get(wood))
-                        return;
-                    if (state1.getBlock() == this)
-                        pathsToAdd.add(pos1.toImmutable());
-                }
-                evaluated.add(p1); // Evaluated
+                return BlockTraversal.Result.IGNORE;
             }
-            paths.addAll(pathsToAdd);
-            paths.removeAll(evaluated);
+            IBlockState state1 = world.getBlockState(pos1);
+            if (state1.getBlock() == BlockLogTFC.get(wood))
+            {
+                return BlockTraversal.Result.STOP;
+            }
+            return state1.getBlock() == this ? BlockTraversal.Result.CONTINUE : BlockTraversal.Result.IGNORE;
+        });
+        if (!connected)
+        {
+            world.setBlockToAir(pos);
         }
-
-        world.setBlockToAir(pos);
     }
 }
@@ -40,6 +40,8 @@ import net.dries007.tfc.api.capability.size.Weight;
 import net.dries007.tfc.api.types.Tree;
 import net.dries007.tfc.util.Helpers;
 import net.dries007.tfc.util.OreDictionaryHelper;
+import net.dries007.tfc.util.block.BlockTraversal;
+import net.dries007.tfc.util.collections.VariantTable;
 
 @MethodsReturnNonnullByDefault
 @ParametersAreNonnullByDefault
@@ -50,7 +52,7 @@ public class BlockLogTFC extends BlockLog implements IItemSize
     public static final AxisAlignedBB SMALL_AABB_Y = new AxisAlignedBB(0.25, 0, 0.25, 0.75, 1, 0.75);
     public static final AxisAlignedBB SMALL_AABB_X = new AxisAlignedBB(0, 0.25, 0.25, 1, 0.75, 0.75);
     public static final AxisAlignedBB SMALL_AABB_Z = new AxisAlignedBB(0.25, 0.25, 0, 0.75, 0.75, 1);
-    private static final Map<Tree, BlockLogTFC> MAP = new HashMap<>();
+    private static final VariantTable<Tree, BlockLogTFC> MAP = new VariantTable<>(Tree::getIndex);
 
     public static BlockLogTFC get(Tree wood)
     {
@@ -291,32 +293,17 @@ public class BlockLogTFC extends BlockLog implements IItemSize
 
         // Find all logs and add them to a list
         List<BlockPos> logs = new ArrayList<>(50);
-        Set<BlockPos> checked = new HashSet<>(50 * 3 * 3);
         logs.add(pos);
-        for (int i = 0; i < logs.size(); i++)
-        {
-            final BlockPos pos1 = logs.get(i);
+        new BlockTraversal(BlockTraversal.SURROUNDING, Integer.MAX_VALUE).search(pos, pos1 -> {
             // check for nearby logs
-            for (int x = -1; x <= 1; x++)
+            IBlockState state = world.getBlockState(pos1);
+            if (state.getBlock() == this && !state.getValue(PLACED))
             {
-                for (int y = -1; y <= 1; y++)
-                {
-                    for (int z = -1; z <= 1; z++)
-                    {
-                        final BlockPos pos2 = pos1.add(x, y, z);
-                        if (!checked.contains(pos2))
-                        {
-                            checked.add(pos2);
-                            IBlockState state = world.getBlockState(pos2);
-                            if (state.getBlock() == this && !state.getValue(PLACED))
-                            {
-                                logs.add(pos2);
-                            }
-                        }
-                    }
-                }
+                logs.add(pos1.toImmutable());
+                return BlockTraversal.Result.CONTINUE;
             }
-        }
+            return BlockTraversal.Result.IGNORE;
+        });
         // Sort the list in terms of max distance to the original tree
         logs.sort(Comparator.comparing(x -> -x.distanceSq(pos)));
 
@@ -5,9 +5,6 @@
 
 package net.dries007.tfc.objects.blocks.wood;
 
-
-import java.util.HashMap;
-import java.util.Map;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import javax.annotation.ParametersAreNonnullByDefault;
@@ -36,6 +33,7 @@ import net.dries007.tfc.api.capability.size.Weight;
 import net.dries007.tfc.api.types.Tree;
 import net.dries007.tfc.objects.te.TELoom;
 import net.dries007.tfc.util.Helpers;
+import net.dries007.tfc.util.collections.VariantTable;
 
 import static net.minecraft.block.BlockHorizontal.FACING;
 import static net.minecraft.block.material.Material.WOOD;
@@ -48,7 +46,7 @@ public class BlockLoom extends BlockContainer implements IItemSize
     protected static final AxisAlignedBB LOOM_SOUTH_AABB = new AxisAlignedBB(0.0625D, 0.0D, 0.125D, 0.9375D, 1.0D, 0.5625D);
     protected static final AxisAlignedBB LOOM_NORTH_AABB = new AxisAlignedBB(0.0625D, 0.0D, 0.4375D, 0.9375D, 1.0D, 0.875D);
 
-    private static final Map<Tree, BlockLoom> MAP = new HashMap<>();
+    private static final VariantTable<Tree, BlockLoom> MAP = new VariantTable<>(Tree::getIndex);
 
     public static BlockLoom get(Tree wood)
     {
@@ -5,9 +5,6 @@
 
 package net.dries007.tfc.objects.blocks.wood;
 
-import java.util.HashMap;
-import java.util.Map;
-
 import net.minecraft.block.Block;
 import net.minecraft.block.SoundType;
 import net.minecraft.block.material.Material;
@@ -15,10 +12,11 @@ import net.minecraft.init.Blocks;
 
 import net.dries007.tfc.api.types.Tree;
 import net.dries007.tfc.util.OreDictionaryHelper;
+import net.dries007.tfc.util.collections.VariantTable;
 
 public class BlockPlanksTFC extends Block
 {
-    private static final Map<Tree, BlockPlanksTFC> MAP = new HashMap<>();
+    private static final VariantTable<Tree, BlockPlanksTFC> MAP = new VariantTable<>(Tree::getIndex);
 
     public static BlockPlanksTFC get(Tree wood)
     {
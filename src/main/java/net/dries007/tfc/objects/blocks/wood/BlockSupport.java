@@ -29,6 +29,9 @@ import net.minecraft.world.World;
 
 import net.dries007.tfc.api.types.Tree;
 import net.dries007.tfc.util.OreDictionaryHelper;
+import net.dries007.tfc.util.collections.VariantTable;
+import net.dries007.tfc.world.classic.chunkdata.ChunkDataTFC;
+import net.dries007.tfc.world.classic.chunkdata.ChunkSupports;
 
 public class BlockSupport extends Block
 {
@@ -48,7 +51,7 @@ public class BlockSupport extends Block
     private static final AxisAlignedBB CONNECTION_E_AABB = new AxisAlignedBB(0.6875D, 0.625D, 0.3125D, 1.0D, 1.0D, 0.6875D);
     private static final AxisAlignedBB CONNECTION_W_AABB = new AxisAlignedBB(0.0D, 0.625D, 0.3125D, 0.3125D, 1.0D, 0.6875D);
 
-    private static final Map<Tree, BlockSupport> MAP = new HashMap<>();
+    private static final VariantTable<Tree, BlockSupport> MAP = new VariantTable<>(Tree::getIndex);
 
     public static BlockSupport get(Tree wood)
     {
@@ -73,15 +76,11 @@ public class BlockSupport extends Block
         {
             return true; //If world isn't loaded...
         }
-        for (BlockPos.MutableBlockPos searchSupport : BlockPos.getAllInBoxMutable(pos.add(-4, -1, -4), pos.add(4, 1, 4)))
+        for (BlockPos support : getSupportsIn(worldIn, pos.add(-4, -1, -4), pos.add(4, 1, 4)))
         {
-            IBlockState st = worldIn.getBlockState(searchSupport);
-            if (st.getBlock() instanceof BlockSupport)
+            if (canSupportBlocksAt(worldIn, support))
             {
-                if (((BlockSupport) st.getBlock()).canSupportBlocks(worldIn, searchSupport))
-                {
-                    return true; //Found support block that can support this position
-                }
+                return true; //Found support block that can support this position
             }
         }
         return false;
@@ -89,45 +88,87 @@ public class BlockSupport extends Block
 
     /**
      * This is an optimized way to check for blocks that aren't supported during a cave in, instead of checking every single block individually and calling BlockSupper#isBeingSupported
+     * Only the supports around the area are checked, then every position they support is marked off.
      */
     public static Set<BlockPos> getAllUnsupportedBlocksIn(World worldIn, BlockPos from, BlockPos to)
     {
-        Set<BlockPos> listSupported = new HashSet<>();
-        Set<BlockPos> listUnsupported = new HashSet<>();
         int minX = Math.min(from.getX(), to.getX());
         int maxX = Math.max(from.getX(), to.getX());
         int minY = Math.min(from.getY(), to.getY());
         int maxY = Math.max(from.getY(), to.getY());
         int minZ = Math.min(from.getZ(), to.getZ());
         int maxZ = Math.max(from.getZ(), to.getZ());
-        BlockPos minPoint = new BlockPos(minX, minY, minZ);
-        BlockPos maxPoint = new BlockPos(maxX, maxY, maxZ);
-        for (BlockPos.MutableBlockPos searchingPoint : BlockPos.getAllInBoxMutable(minPoint.add(-4, -1, -4), maxPoint.add(4, 1, 4)))
+        int sizeX = maxX - minX + 1, sizeZ = maxZ - minZ + 1;
+        BitSet supported = new BitSet(sizeX * (maxY - minY + 1) * sizeZ);
+        for (BlockPos support : getSupportsIn(worldIn, new BlockPos(minX - 4, minY - 1, minZ - 4), new BlockPos(maxX + 4, maxY + 1, maxZ + 4)))
         {
-            if (!listSupported.contains(searchingPoint))
+            if (canSupportBlocksAt(worldIn, support))
             {
-                listUnsupported.add(searchingPoint.toImmutable()); //Adding blocks that wasn't found supported
+                int startX = Math.max(minX, support.getX() - 4), endX = Math.min(maxX, support.getX() + 4);
+                for (int y = Math.max(minY, support.getY() - 1); y <= Math.min(maxY, support.getY() + 1); y++)
+                {
+                    for (int z = Math.max(minZ, support.getZ() - 4); z <= Math.min(maxZ, support.getZ() + 4); z++)
+                    {
+                        int row = ((y - minY) * sizeZ + (z - minZ)) * sizeX;
+                        supported.set(row + startX - minX, row + endX - minX + 1);
+                    }
+                }
             }
-            IBlockState st = worldIn.getBlockState(searchingPoint);
-            if (st.getBlock() instanceof BlockSupport)
+        }
+
+        Set<BlockPos> listUnsupported = new HashSet<>();
+        for (int y = minY; y <= maxY; y++)
+        {
+            for (int z = minZ; z <= maxZ; z++)
+            {
+                int row = ((y - minY) * sizeZ + (z - minZ)) * sizeX;
+                for (int x = supported.nextClearBit(row); x < row + sizeX; x = supported.nextClearBit(x + 1))
+                {
+                    listUnsupported.add(new BlockPos(minX + x - row, y, z));
+                }
+            }
+        }
+        return listUnsupported;
+    }
+
+    /**
+     * Finds every support block in an area, using {@link ChunkSupports} where possible
+     * Chunks without chunk data (i.e. in other world types), and client chunks, are searched block by block.
+     */
+    private static List<BlockPos> getSupportsIn(World world, BlockPos min, BlockPos max)
+    {
+        List<BlockPos> supports = new ArrayList<>();
+        for (int chunkX = min.getX() >> 4; chunkX <= max.getX() >> 4; chunkX++)
+        {
+            for (int chunkZ = min.getZ() >> 4; chunkZ <= max.getZ() >> 4; chunkZ++)
             {
-                if (((BlockSupport) st.getBlock()).canSupportBlocks(worldIn, searchingPoint))
+                // The index is only kept up to date on the server
+                ChunkSupports chunkSupports = world.isRemote ? null : ChunkSupports.get(world.getChunk(chunkX, chunkZ));
+                if (chunkSupports != null)
                 {
-                    for (BlockPos.MutableBlockPos supported : BlockPos.getAllInBoxMutable(searchingPoint.add(-4, -1, -4), searchingPoint.add(4, 1, 4)))
+                    chunkSupports.collect(chunkX, chunkZ, min, max, supports);
+                }
+                else
+                {
+                    BlockPos from = new BlockPos(Math.max(min.getX(), chunkX << 4), min.getY(), Math.max(min.getZ(), chunkZ << 4));
+                    BlockPos to = new BlockPos(Math.min(max.getX(), (chunkX << 4) + 15), max.getY(), Math.min(max.getZ(), (chunkZ << 4) + 15));
+                    for (BlockPos.MutableBlockPos searchSupport : BlockPos.getAllInBoxMutable(from, to))
                     {
-                        listSupported.add(supported.toImmutable()); //Adding all supported blocks by this support
-                        listUnsupported.remove(supported); //Remove if this block was added earlier
+                        if (world.getBlockState(searchSupport).getBlock() instanceof BlockSupport)
+                        {
+                            supports.add(searchSupport.toImmutable());
+                        }
                     }
                 }
             }
         }
-        //Searching point wasn't from points between from <-> to but
-        //Time to remove the outsides that were added for convenience
-        listUnsupported.removeIf(content -> content.getX() < minX || content.getX() > maxX
-            || content.getY() < minY || content.getY() > maxY
-            || content.getZ() < minZ || content.getZ() > maxZ);
+        return supports;
+    }
 
-        return listUnsupported;
+    private static boolean canSupportBlocksAt(World world, BlockPos pos)
+    {
+        IBlockState state = world.getBlockState(pos);
+        return state.getBlock() instanceof BlockSupport && ((BlockSupport) state.getBlock()).canSupportBlocks(world, pos);
     }
 
     private final Tree wood;
@@ -272,6 +313,34 @@ public class BlockSupport extends Block
         return false;
     }
 
+    @Override
+    public void onBlockAdded(World worldIn, BlockPos pos, IBlockState state)
+    {
+        super.onBlockAdded(worldIn, pos, state);
+        if (!worldIn.isRemote)
+        {
+            ChunkSupports supports = ChunkDataTFC.get(worldIn, pos).getSupports();
+            if (supports != null)
+            {
+                supports.add(pos);
+            }
+        }
+    }
+
+    @Override
+    public void breakBlock(World worldIn, BlockPos pos, IBlockState state)
+    {
+        if (!worldIn.isRemote)
+        {
+            ChunkSupports supports = ChunkDataTFC.get(worldIn, pos).getSupports();
+            if (supports != null)
+            {
+                supports.remove(pos);
+            }
+        }
+        super.breakBlock(worldIn, pos, state);
+    }
+
     @SuppressWarnings("deprecation")
     @Override
     public void neighborChanged(IBlockState state, World worldIn, BlockPos pos, Block blockIn, BlockPos fromPos)
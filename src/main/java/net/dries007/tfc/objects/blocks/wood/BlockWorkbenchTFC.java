@@ -5,8 +5,6 @@
 
 package net.dries007.tfc.objects.blocks.wood;
 
-import java.util.HashMap;
-import java.util.Map;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import javax.annotation.ParametersAreNonnullByDefault;
@@ -34,10 +32,11 @@ import mcp.MethodsReturnNonnullByDefault;
 import net.dries007.tfc.api.types.Tree;
 import net.dries007.tfc.objects.container.ContainerWorkbenchTFC;
 import net.dries007.tfc.util.OreDictionaryHelper;
+import net.dries007.tfc.util.collections.VariantTable;
 
 public class BlockWorkbenchTFC extends BlockWorkbench
 {
-    private static final Map<Tree, BlockWorkbenchTFC> MAP = new HashMap<>();
+    private static final VariantTable<Tree, BlockWorkbenchTFC> MAP = new VariantTable<>(Tree::getIndex);
 
     public static BlockWorkbenchTFC get(Tree wood)
     {
@@ -19,7 +19,6 @@ import net.minecraftforge.items.ItemStackHandler;
 
 import net.dries007.tfc.api.recipes.knapping.KnappingRecipe;
 import net.dries007.tfc.api.recipes.knapping.KnappingType;
-import net.dries007.tfc.api.registries.TFCRegistries;
 import net.dries007.tfc.objects.inventory.slot.SlotKnappingOutput;
 import net.dries007.tfc.util.Helpers;
 import net.dries007.tfc.util.SimpleCraftMatrix;
@@ -156,7 +155,7 @@ public class ContainerKnapping extends ContainerItemStack implements IButtonHand
 
     private KnappingRecipe getMatchingRecipe()
     {
-        return TFCRegistries.KNAPPING.getValuesCollection().stream().filter(x -> x.getType() == type && matrix.matches(x.getMatrix())).findFirst().orElse(null);
+        return KnappingRecipe.get(type, matrix);
     }
 
     private void consumeIngredientStackAfterComplete()
@@ -10,8 +10,10 @@ import net.minecraft.util.ResourceLocation;
 import net.minecraftforge.fml.common.registry.EntityRegistry;
 
 import net.dries007.tfc.TerraFirmaCraft;
+import net.dries007.tfc.api.types.ICreatureTFC;
 import net.dries007.tfc.objects.entity.animal.*;
 import net.dries007.tfc.objects.entity.projectile.EntityThrownJavelin;
+import net.dries007.tfc.world.classic.WorldEntitySpawnerTFC;
 
 import static net.dries007.tfc.TerraFirmaCraft.MOD_ID;
 
@@ -25,30 +27,30 @@ public class EntitiesTFC
         register("falling_block", EntityFallingBlockTFC.class);
         register("thrown_javelin", EntityThrownJavelin.class);
         register("boat", EntityBoatTFC.class);
-        registerLiving("sheeptfc", EntitySheepTFC.class, 0xFFFFFF, 0xFF6347);
-        registerLiving("cowtfc", EntityCowTFC.class, 0xA52A2A, 0xFFFFFF);
-        registerLiving("beartfc", EntityBearTFC.class, 0xB22222, 0xDEB887);
-        registerLiving("chickentfc", EntityChickenTFC.class, 0x557755, 0xFFF91F);
-        registerLiving("pheasanttfc", EntityPheasantTFC.class, 0x5577FF, 0xFFFA90);
-        registerLiving("deertfc", EntityDeerTFC.class, 0x55FF55, 0x5FFAAF);
-        registerLiving("pigtfc", EntityPigTFC.class, 0xAA7722, 0xFFEBCD);
-        registerLiving("wolftfc", EntityWolfTFC.class, 0xB0ACAC, 0x796555);
-        registerLiving("rabbittfc", EntityRabbitTFC.class, 0x885040, 0x462612);
-        registerLiving("horsetfc", EntityHorseTFC.class, 0xA5886B, 0xABA400);
-        registerLiving("donkeytfc", EntityDonkeyTFC.class, 0x493C32, 0x756659);
-        registerLiving("muletfc", EntityMuleTFC.class, 0x180200, 0x482D1A);
-        registerLiving("polarbeartfc", EntityPolarBearTFC.class, 0xF1FFF1, 0xA0A0A0);
-        registerLiving("parrottfc", EntityParrotTFC.class, 0x885040, 0xB0ACAC);
-        registerLiving("llamatfc", EntityLlamaTFC.class, 0xA52A2A, 0xAA7722);
-        registerLiving("ocelottfc", EntityOcelotTFC.class, 0x3527FA, 0x7F23A0);
-        registerLiving("panthertfc", EntityPantherTFC.class, 0x000066, 0x000000);
-        registerLiving("ducktfc", EntityDuckTFC.class, 0xFFF91F, 0x462612);
-        registerLiving("alpacatfc", EntityAlpacaTFC.class, 0x00CC66, 0x006633);
-        registerLiving("goattfc", EntityGoatTFC.class, 0xA0A0A0, 0x404040);
-        registerLiving("sabertoothtfc", EntitySaberToothTFC.class, 0xFF8000, 0xFFD700);
-        registerLiving("cameltfc", EntityCamelTFC.class, 0xA5886B, 0x006633);
-        registerLiving("liontfc", EntityLionTFC.class, 0xDAA520, 0xA0522D);
-        registerLiving("hyenatfc", EntityHyenaTFC.class, 0x666600, 0x331900);
+        registerCreature("sheeptfc", EntitySheepTFC.class, 0xFFFFFF, 0xFF6347, EntitySheepTFC::getNaturalSpawnWeight);
+        registerCreature("cowtfc", EntityCowTFC.class, 0xA52A2A, 0xFFFFFF, EntityCowTFC::getNaturalSpawnWeight);
+        registerCreature("beartfc", EntityBearTFC.class, 0xB22222, 0xDEB887, EntityBearTFC::getNaturalSpawnWeight);
+        registerCreature("chickentfc", EntityChickenTFC.class, 0x557755, 0xFFF91F, EntityChickenTFC::getNaturalSpawnWeight);
+        registerCreature("pheasanttfc", EntityPheasantTFC.class, 0x5577FF, 0xFFFA90, EntityPheasantTFC::getNaturalSpawnWeight);
+        registerCreature("deertfc", EntityDeerTFC.class, 0x55FF55, 0x5FFAAF, EntityDeerTFC::getNaturalSpawnWeight);
+        registerCreature("pigtfc", EntityPigTFC.class, 0xAA7722, 0xFFEBCD, EntityPigTFC::getNaturalSpawnWeight);
+        registerCreature("wolftfc", EntityWolfTFC.class, 0xB0ACAC, 0x796555, EntityWolfTFC::getNaturalSpawnWeight);
+        registerCreature("rabbittfc", EntityRabbitTFC.class, 0x885040, 0x462612, EntityRabbitTFC::getNaturalSpawnWeight);
+        registerCreature("horsetfc", EntityHorseTFC.class, 0xA5886B, 0xABA400, EntityHorseTFC::getNaturalSpawnWeight);
+        registerCreature("donkeytfc", EntityDonkeyTFC.class, 0x493C32, 0x756659, EntityDonkeyTFC::getNaturalSpawnWeight);
+        registerCreature("muletfc", EntityMuleTFC.class, 0x180200, 0x482D1A, EntityMuleTFC::getNaturalSpawnWeight);
+        registerCreature("polarbeartfc", EntityPolarBearTFC.class, 0xF1FFF1, 0xA0A0A0, EntityPolarBearTFC::getNaturalSpawnWeight);
+        registerCreature("parrottfc", EntityParrotTFC.class, 0x885040, 0xB0ACAC, EntityParrotTFC::getNaturalSpawnWeight);
+        registerCreature("llamatfc", EntityLlamaTFC.class, 0xA52A2A, 0xAA7722, EntityLlamaTFC::getNaturalSpawnWeight);
+        registerCreature("ocelottfc", EntityOcelotTFC.class, 0x3527FA, 0x7F23A0, EntityOcelotTFC::getNaturalSpawnWeight);
+        registerCreature("panthertfc", EntityPantherTFC.class, 0x000066, 0x000000, EntityPantherTFC::getNaturalSpawnWeight);
+        registerCreature("ducktfc", EntityDuckTFC.class, 0xFFF91F, 0x462612, EntityDuckTFC::getNaturalSpawnWeight);
+        registerCreature("alpacatfc", EntityAlpacaTFC.class, 0x00CC66, 0x006633, EntityAlpacaTFC::getNaturalSpawnWeight);
+        registerCreature("goattfc", EntityGoatTFC.class, 0xA0A0A0, 0x404040, EntityGoatTFC::getNaturalSpawnWeight);
+        registerCreature("sabertoothtfc", EntitySaberToothTFC.class, 0xFF8000, 0xFFD700, EntitySaberToothTFC::getNaturalSpawnWeight);
+        registerCreature("cameltfc", EntityCamelTFC.class, 0xA5886B, 0x006633, EntityCamelTFC::getNaturalSpawnWeight);
+        registerCreature("liontfc", EntityLionTFC.class, 0xDAA520, 0xA0522D, EntityLionTFC::getNaturalSpawnWeight);
+        registerCreature("hyenatfc", EntityHyenaTFC.class, 0x666600, 0x331900, EntityHyenaTFC::getNaturalSpawnWeight);
     }
 
     private static void register(String name, Class<? extends Entity> cls)
@@ -61,4 +63,10 @@ public class EntitiesTFC
         //Register entity and create a spawn egg for creative
         EntityRegistry.registerModEntity(new ResourceLocation(MOD_ID, name), cls, name, id++, TerraFirmaCraft.getInstance(), 80, 3, true, eggPrimaryColor, eggSecondaryColor);
     }
+
+    private static void registerCreature(String name, Class<? extends Entity> cls, int eggPrimaryColor, int eggSecondaryColor, ICreatureTFC.SpawnRule spawnRule)
+    {
+        registerLiving(name, cls, eggPrimaryColor, eggSecondaryColor);
+        WorldEntitySpawnerTFC.registerSpawnRule(cls, spawnRule);
+    }
 }
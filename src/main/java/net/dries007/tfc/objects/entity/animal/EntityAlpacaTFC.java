@@ -45,8 +45,7 @@ public class EntityAlpacaTFC extends EntitySheepTFC implements ILivestock
         super(worldIn, gender, birthDay, dye);
     }
 
-    @Override
-    public int getSpawnWeight(Biome biome, float temperature, float rainfall, float floraDensity, float floraDiversity)
+    public static int getNaturalSpawnWeight(Biome biome, float temperature, float rainfall, float floraDensity, float floraDiversity)
     {
         BiomeHelper.BiomeType biomeType = BiomeHelper.getBiomeType(temperature, rainfall, floraDensity);
         if (!BiomesTFC.isOceanicBiome(biome) && !BiomesTFC.isBeachBiome(biome) &&
@@ -57,6 +56,12 @@ public class EntityAlpacaTFC extends EntitySheepTFC implements ILivestock
         return 0;
     }
 
+    @Override
+    public int getSpawnWeight(Biome biome, float temperature, float rainfall, float floraDensity, float floraDiversity)
+    {
+        return getNaturalSpawnWeight(biome, temperature, rainfall, floraDensity, floraDiversity);
+    }
+
     @Override
     public void birthChildren()
     {
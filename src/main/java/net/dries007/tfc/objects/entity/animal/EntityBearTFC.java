@@ -73,8 +73,7 @@ public class EntityBearTFC extends EntityAnimalMammal implements IPredator, Enti
         this.setSize(1.3F, 1.4F);
     }
 
-    @Override
-    public int getSpawnWeight(Biome biome, float temperature, float rainfall, float floraDensity, float floraDiversity)
+    public static int getNaturalSpawnWeight(Biome biome, float temperature, float rainfall, float floraDensity, float floraDiversity)
     {
         BiomeHelper.BiomeType biomeType = BiomeHelper.getBiomeType(temperature, rainfall, floraDensity);
         if (!BiomesTFC.isOceanicBiome(biome) && !BiomesTFC.isBeachBiome(biome) &&
@@ -85,6 +84,12 @@ public class EntityBearTFC extends EntityAnimalMammal implements IPredator, Enti
         return 0;
     }
 
+    @Override
+    public int getSpawnWeight(Biome biome, float temperature, float rainfall, float floraDensity, float floraDiversity)
+    {
+        return getNaturalSpawnWeight(biome, temperature, rainfall, floraDensity, floraDiversity);
+    }
+
     @Override
     public BiConsumer<List<EntityLiving>, Random> getGroupingRules()
     {
@@ -100,8 +100,7 @@ public class EntityCamelTFC extends EntityLlamaTFC implements IAnimalTFC, ILives
         return ConfigTFC.Animals.CAMEL.elder;
     }
 
-    @Override
-    public int getSpawnWeight(Biome biome, float temperature, float rainfall, float floraDensity, float floraDiversity)
+    public static int getNaturalSpawnWeight(Biome biome, float temperature, float rainfall, float floraDensity, float floraDiversity)
     {
         BiomeHelper.BiomeType biomeType = BiomeHelper.getBiomeType(temperature, rainfall, floraDensity);
         if (!BiomesTFC.isOceanicBiome(biome) && !BiomesTFC.isBeachBiome(biome) &&
@@ -112,6 +111,12 @@ public class EntityCamelTFC extends EntityLlamaTFC implements IAnimalTFC, ILives
         return 0;
     }
 
+    @Override
+    public int getSpawnWeight(Biome biome, float temperature, float rainfall, float floraDensity, float floraDiversity)
+    {
+        return getNaturalSpawnWeight(biome, temperature, rainfall, floraDensity, floraDiversity);
+    }
+
     @Override
     public BiConsumer<List<EntityLiving>, Random> getGroupingRules()
     {
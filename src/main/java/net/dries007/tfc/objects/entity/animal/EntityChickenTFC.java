@@ -70,8 +70,7 @@ public class EntityChickenTFC extends EntityAnimalTFC implements ILivestock
         this.setSize(0.9F, 0.9F);
     }
 
-    @Override
-    public int getSpawnWeight(Biome biome, float temperature, float rainfall, float floraDensity, float floraDiversity)
+    public static int getNaturalSpawnWeight(Biome biome, float temperature, float rainfall, float floraDensity, float floraDiversity)
     {
         BiomeHelper.BiomeType biomeType = BiomeHelper.getBiomeType(temperature, rainfall, floraDensity);
         if (!BiomesTFC.isOceanicBiome(biome) && !BiomesTFC.isBeachBiome(biome) &&
@@ -82,6 +81,12 @@ public class EntityChickenTFC extends EntityAnimalTFC implements ILivestock
         return 0;
     }
 
+    @Override
+    public int getSpawnWeight(Biome biome, float temperature, float rainfall, float floraDensity, float floraDiversity)
+    {
+        return getNaturalSpawnWeight(biome, temperature, rainfall, floraDensity, floraDiversity);
+    }
+
     @Override
     public BiConsumer<List<EntityLiving>, Random> getGroupingRules()
     {
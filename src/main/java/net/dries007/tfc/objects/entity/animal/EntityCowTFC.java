@@ -67,8 +67,7 @@ public class EntityCowTFC extends EntityAnimalMammal implements ILivestock
         setMilkedTick(0);
     }
 
-    @Override
-    public int getSpawnWeight(Biome biome, float temperature, float rainfall, float floraDensity, float floraDiversity)
+    public static int getNaturalSpawnWeight(Biome biome, float temperature, float rainfall, float floraDensity, float floraDiversity)
     {
         BiomeHelper.BiomeType biomeType = BiomeHelper.getBiomeType(temperature, rainfall, floraDensity);
         if (!BiomesTFC.isOceanicBiome(biome) && !BiomesTFC.isBeachBiome(biome) &&
@@ -79,6 +78,12 @@ public class EntityCowTFC extends EntityAnimalMammal implements ILivestock
         return 0;
     }
 
+    @Override
+    public int getSpawnWeight(Biome biome, float temperature, float rainfall, float floraDensity, float floraDiversity)
+    {
+        return getNaturalSpawnWeight(biome, temperature, rainfall, floraDensity, floraDiversity);
+    }
+
     @Override
     public BiConsumer<List<EntityLiving>, Random> getGroupingRules()
     {
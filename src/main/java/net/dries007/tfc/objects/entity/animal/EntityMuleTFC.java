@@ -205,10 +205,15 @@ public class EntityMuleTFC extends EntityMule implements IAnimalTFC, ILivestock
         }
     }
 
+    public static int getNaturalSpawnWeight(Biome biome, float temperature, float rainfall, float floraDensity, float floraDiversity)
+    {
+        return 0; // Not naturally spawned, must be bred
+    }
+
     @Override
     public int getSpawnWeight(Biome biome, float temperature, float rainfall, float floraDensity, float floraDiversity)
     {
-        return 0; // Not naturally spawned, must be bred
+        return getNaturalSpawnWeight(biome, temperature, rainfall, floraDensity, floraDiversity);
     }
 
     @Override
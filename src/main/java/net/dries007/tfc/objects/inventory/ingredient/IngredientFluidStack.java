@@ -64,4 +64,10 @@ public class IngredientFluidStack implements IIngredient<FluidStack>
         }
         return 0;
     }
+
+    @Nullable
+    FluidStack getInputFluid()
+    {
+        return inputFluid;
+    }
 }
@@ -0,0 +1,247 @@
+/*
+ * Work under Copyright. Licensed under the EUPL.
+ * See the project README.md and LICENSE.txt for more information.
+ */
+
+package net.dries007.tfc.objects.inventory.ingredient;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraftforge.fluids.Fluid;
+import net.minecraftforge.fluids.FluidStack;
+import net.minecraftforge.oredict.OreDictionary;
+
+/**
+ * An immutable index over an ordered list of values, which narrows down which values could possibly match a given key (i.e. an {@link Item})
+ * Values are referred to by their position in the original list, and candidates are always returned in ascending order, so scanning the candidates gives the same first match as scanning the whole list.
+ * Values which can't be indexed are candidates for every key.
+ *
+ * This only narrows the search, the caller must still test each candidate.
+ *
+ * @param <K> the key type, compared by identity
+ * @param <V> the value type
+ */
+public final class IngredientIndex<K, V>
+{
+    private static final int[] NO_CANDIDATES = new int[0];
+    private static volatile int generation;
+
+    /**
+     * Called when something that every index depends on changes, i.e. a new ore dictionary entry, or a new recipe registry entry.
+     * Holders of an index should compare {@link IngredientIndex#getGeneration()} and rebuild it when it has changed.
+     */
+    public static void invalidateAll()
+    {
+        generation++;
+    }
+
+    public static int getGeneration()
+    {
+        return generation;
+    }
+
+    /**
+     * @return every item which could match this ingredient, or null if the ingredient can't be narrowed down to a set of items
+     */
+    @Nullable
+    public static Set<Item> getItems(IIngredient<ItemStack> ingredient)
+    {
+        Set<Item> items = Collections.newSetFromMap(new IdentityHashMap<>());
+        return collectItems(ingredient, items) ? items : null;
+    }
+
+    /**
+     * @return every fluid which could match this ingredient, or null if the ingredient can't be narrowed down to a set of fluids
+     */
+    @Nullable
+    public static Set<Fluid> getFluids(IIngredient<FluidStack> ingredient)
+    {
+        if (ingredient instanceof IngredientFluidStack)
+        {
+            FluidStack inputFluid = ((IngredientFluidStack) ingredient).getInputFluid();
+            return inputFluid != null ? Collections.singleton(inputFluid.getFluid()) : null;
+        }
+        else if (ingredient instanceof IngredientMultipleFluidStack)
+        {
+            Set<Fluid> fluids = Collections.newSetFromMap(new IdentityHashMap<>());
+            fluids.addAll(Arrays.asList(((IngredientMultipleFluidStack) ingredient).getFluids()));
+            return fluids;
+        }
+        else if (ingredient == IIngredient.EMPTY)
+        {
+            return Collections.emptySet();
+        }
+        return null;
+    }
+
+    /**
+     * @return the union of two ascending candidate arrays, also ascending
+     */
+    @Nonnull
+    public static int[] union(int[] first, int[] second)
+    {
+        if (first.length == 0 || first == second)
+        {
+            return second;
+        }
+        if (second.length == 0)
+        {
+            return first;
+        }
+        int[] result = new int[first.length + second.length];
+        int i = 0, j = 0, k = 0;
+        while (i < first.length && j < second.length)
+        {
+            if (first[i] == second[j])
+            {
+                result[k++] = first[i++];
+                j++;
+            }
+            else
+            {
+                result[k++] = first[i] < second[j] ? first[i++] : second[j++];
+            }
+        }
+        while (i < first.length)
+        {
+            result[k++] = first[i++];
+        }
+        while (j < second.length)
+        {
+            result[k++] = second[j++];
+        }
+        return k == result.length ? result : Arrays.copyOf(result, k);
+    }
+
+    /**
+     * @return the intersection of two ascending candidate arrays, also ascending
+     */
+    @Nonnull
+    public static int[] intersect(int[] first, int[] second)
+    {
+        if (first == second)
+        {
+            return first;
+        }
+        int[] result = new int[Math.min(first.length, second.length)];
+        int i = 0, j = 0, k = 0;
+        while (i < first.length && j < second.length)
+        {
+            if (first[i] == second[j])
+            {
+                result[k++] = first[i++];
+                j++;
+            }
+            else if (first[i] < second[j])
+            {
+                i++;
+            }
+            else
+            {
+                j++;
+            }
+        }
+        return k == result.length ? result : Arrays.copyOf(result, k);
+    }
+
+    private static boolean collectItems(IIngredient<ItemStack> ingredient, Set<Item> items)
+    {
+        if (ingredient instanceof IngredientItemStack)
+        {
+            items.add(((IngredientItemStack) ingredient).getInputStack().getItem());
+            return true;
+        }
+        else if (ingredient instanceof IngredientOreDict)
+        {
+            for (ItemStack stack : OreDictionary.getOres(((IngredientOreDict) ingredient).getOreName(), false))
+            {
+                items.add(stack.getItem());
+            }
+            return true;
+        }
+        else if (ingredient instanceof IngredientItemFood)
+        {
+            return collectItems(((IngredientItemFood) ingredient).getInnerIngredient(), items);
+        }
+        else if (ingredient instanceof IngredientItemFoodTrait)
+        {
+            return collectItems(((IngredientItemFoodTrait) ingredient).getInnerIngredient(), items);
+        }
+        else
+        {
+            return ingredient == IIngredient.EMPTY; // Matches nothing
+        }
+    }
+
+    private final List<V> values;
+    private final Map<K, int[]> indexed;
+    private final int[] unindexed;
+    private final Map<K, int[]> candidates = new ConcurrentHashMap<>();
+
+    /**
+     * @param values       the values, in priority order
+     * @param keysFunction returns all keys a value could match, or null if the value can't be indexed
+     */
+    public IngredientIndex(Collection<V> values, Function<V, Collection<K>> keysFunction)
+    {
+        this.values = new ArrayList<>(values);
+
+        Map<K, List<Integer>> byKey = new IdentityHashMap<>();
+        List<Integer> fallback = new ArrayList<>();
+        for (int i = 0; i < this.values.size(); i++)
+        {
+            Collection<K> keys = keysFunction.apply(this.values.get(i));
+            if (keys != null)
+            {
+                for (K key : keys)
+                {
+                    byKey.computeIfAbsent(key, k -> new ArrayList<>()).add(i);
+                }
+            }
+            else
+            {
+                fallback.add(i);
+            }
+        }
+
+        this.indexed = new IdentityHashMap<>();
+        byKey.forEach((key, list) -> indexed.put(key, list.stream().mapToInt(Integer::intValue).toArray()));
+        this.unindexed = fallback.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * @return the position of every value which could match this key, in ascending order
+     */
+    @Nonnull
+    public int[] getCandidates(@Nullable K key)
+    {
+        if (key == null)
+        {
+            return unindexed;
+        }
+        int[] result = candidates.get(key);
+        if (result == null)
+        {
+            result = union(indexed.getOrDefault(key, NO_CANDIDATES), unindexed);
+            candidates.put(key, result);
+        }
+        return result;
+    }
+
+    @Nonnull
+    public V get(int index)
+    {
+        return values.get(index);
+    }
+
+    public int size()
+    {
+        return values.size();
+    }
+}
@@ -56,6 +56,11 @@ public class IngredientItemFood implements IIngredient<ItemStack>
         return innerIngredient.consume(input);
     }
 
+    IIngredient<ItemStack> getInnerIngredient()
+    {
+        return innerIngredient;
+    }
+
     private boolean isRotten(ItemStack stack)
     {
         IFood cap = stack.getCapability(CapabilityFood.CAPABILITY, null);
@@ -58,4 +58,9 @@ public class IngredientItemStack implements IIngredient<ItemStack>
     {
         return inputStack.getCount();
     }
+
+    ItemStack getInputStack()
+    {
+        return inputStack;
+    }
 }
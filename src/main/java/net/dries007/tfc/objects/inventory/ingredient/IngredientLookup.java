@@ -0,0 +1,82 @@
+/*
+ * Work under Copyright. Licensed under the EUPL.
+ * See the project README.md and LICENSE.txt for more information.
+ */
+
+package net.dries007.tfc.objects.inventory.ingredient;
+
+import java.util.Map;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+
+/**
+ * A lookup over a map of item stack ingredients, used to answer "which is the first entry that matches this stack" without testing every ingredient.
+ * Candidates are always tested with {@link IIngredient#testIgnoreCount(Object)} in the map's iteration order, so the result is identical to a linear scan.
+ *
+ * The index is compiled lazily, and recompiled if the backing map changes size, or if the ore dictionary changes (see {@link IngredientIndex#invalidateAll()})
+ * Replacing the value of an existing key is seen without recompiling. Anything that removes one entry and adds another should call {@link IngredientIndex#invalidateAll()}, as the size alone won't change.
+ */
+public final class IngredientLookup<V>
+{
+    private final Map<IIngredient<ItemStack>, V> map;
+    private volatile Snapshot<V> snapshot;
+
+    public IngredientLookup(Map<IIngredient<ItemStack>, V> map)
+    {
+        this.map = map;
+    }
+
+    /**
+     * @return the value of the first entry (in map iteration order) that matches the stack, or null if none do
+     */
+    @Nullable
+    public V get(@Nonnull ItemStack stack)
+    {
+        Snapshot<V> snapshot = this.snapshot;
+        if (snapshot == null || snapshot.isStale(map))
+        {
+            snapshot = compile();
+        }
+        for (int i : snapshot.index.getCandidates(stack.getItem()))
+        {
+            Map.Entry<IIngredient<ItemStack>, V> entry = snapshot.index.get(i);
+            if (entry.getKey().testIgnoreCount(stack))
+            {
+                return entry.getValue();
+            }
+        }
+        return null;
+    }
+
+    private synchronized Snapshot<V> compile()
+    {
+        Snapshot<V> snapshot = this.snapshot;
+        if (snapshot == null || snapshot.isStale(map))
+        {
+            snapshot = new Snapshot<>(map);
+            this.snapshot = snapshot;
+        }
+        return snapshot;
+    }
+
+    private static final class Snapshot<V>
+    {
+        private final int size, generation;
+        private final IngredientIndex<Item, Map.Entry<IIngredient<ItemStack>, V>> index;
+
+        private Snapshot(Map<IIngredient<ItemStack>, V> map)
+        {
+            this.size = map.size();
+            this.generation = IngredientIndex.getGeneration();
+            this.index = new IngredientIndex<>(map.entrySet(), entry -> IngredientIndex.getItems(entry.getKey()));
+        }
+
+        private boolean isStale(Map<IIngredient<ItemStack>, V> map)
+        {
+            return size != map.size() || generation != IngredientIndex.getGeneration();
+        }
+    }
+}
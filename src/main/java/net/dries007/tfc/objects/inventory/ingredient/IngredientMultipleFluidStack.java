@@ -69,4 +69,9 @@ public class IngredientMultipleFluidStack implements IIngredient<FluidStack>
     {
         return amount;
     }
+
+    Fluid[] getFluids()
+    {
+        return fluids;
+    }
 }
@@ -66,4 +66,9 @@ public class IngredientOreDict implements IIngredient<ItemStack>
     {
         return amount;
     }
+
+    String getOreName()
+    {
+        return oreName;
+    }
 }
@@ -5,9 +5,6 @@
 
 package net.dries007.tfc.objects.items.metal;
 
-import java.util.EnumMap;
-import java.util.HashMap;
-import java.util.Map;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import javax.annotation.ParametersAreNonnullByDefault;
@@ -32,11 +29,12 @@ import net.dries007.tfc.api.types.Metal;
 import net.dries007.tfc.objects.items.ItemTFC;
 import net.dries007.tfc.objects.items.itemblock.ItemBlockMetalLamp;
 import net.dries007.tfc.util.OreDictionaryHelper;
+import net.dries007.tfc.util.collections.VariantTable;
 
 @ParametersAreNonnullByDefault
 public class ItemMetal extends ItemTFC implements IMetalItem
 {
-    private static final Map<Metal, EnumMap<Metal.ItemType, ItemMetal>> TABLE = new HashMap<>();
+    private static final VariantTable<Metal, ItemMetal> TABLE = new VariantTable<>(Metal::getIndex, Metal.ItemType.values().length);
 
     public static Item get(Metal metal, Metal.ItemType type)
     {
@@ -49,7 +47,7 @@ public class ItemMetal extends ItemTFC implements IMetalItem
         {
             return ItemBlockMetalLamp.get(metal);
         }
-        return TABLE.get(metal).get(type);
+        return TABLE.get(metal, type.ordinal());
     }
 
     protected final Metal metal;
@@ -61,9 +59,7 @@ public class ItemMetal extends ItemTFC implements IMetalItem
         this.metal = metal;
         this.type = type;
 
-        if (!TABLE.containsKey(metal))
-            TABLE.put(metal, new EnumMap<>(Metal.ItemType.class));
-        TABLE.get(metal).put(type, this);
+        TABLE.put(metal, type.ordinal(), this);
 
         setNoRepair();
         if (type == Metal.ItemType.DOUBLE_INGOT)
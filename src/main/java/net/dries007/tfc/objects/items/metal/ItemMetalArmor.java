@@ -5,9 +5,6 @@
 
 package net.dries007.tfc.objects.items.metal;
 
-import java.util.EnumMap;
-import java.util.HashMap;
-import java.util.Map;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
@@ -23,14 +20,15 @@ import net.dries007.tfc.api.capability.metal.IMetalItem;
 import net.dries007.tfc.api.capability.size.IItemSize;
 import net.dries007.tfc.api.types.Metal;
 import net.dries007.tfc.objects.items.ItemArmorTFC;
+import net.dries007.tfc.util.collections.VariantTable;
 
 public class ItemMetalArmor extends ItemArmorTFC implements IMetalItem, IItemSize
 {
-    private static final Map<Metal, EnumMap<Metal.ItemType, ItemMetalArmor>> TABLE = new HashMap<>();
+    private static final VariantTable<Metal, ItemMetalArmor> TABLE = new VariantTable<>(Metal::getIndex, Metal.ItemType.values().length);
 
     public static ItemMetalArmor get(Metal metal, Metal.ItemType type)
     {
-        return TABLE.get(metal).get(type);
+        return TABLE.get(metal, type.ordinal());
     }
 
     private final Metal metal;
@@ -42,9 +40,7 @@ public class ItemMetalArmor extends ItemArmorTFC implements IMetalItem, IItemSiz
         super(metal.getArmorMetal(), type.getArmorSlot(), type.getEquipmentSlot());
         this.metal = metal;
         this.type = type;
-        if (!TABLE.containsKey(metal))
-            TABLE.put(metal, new EnumMap<>(Metal.ItemType.class));
-        TABLE.get(metal).put(type, this);
+        TABLE.put(metal, type.ordinal(), this);
     }
 
     @Nullable
@@ -5,8 +5,6 @@
 
 package net.dries007.tfc.objects.items.metal;
 
-import java.util.HashMap;
-import java.util.Map;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import javax.annotation.ParametersAreNonnullByDefault;
@@ -33,6 +31,7 @@ import net.dries007.tfc.api.capability.size.Size;
 import net.dries007.tfc.api.capability.size.Weight;
 import net.dries007.tfc.api.types.Metal;
 import net.dries007.tfc.util.OreDictionaryHelper;
+import net.dries007.tfc.util.collections.VariantTable;
 
 /*
  * todo in 1.15+ put more thought in weapons + tools, make them extend the vanilla's classes where possible
@@ -43,7 +42,7 @@ import net.dries007.tfc.util.OreDictionaryHelper;
 @MethodsReturnNonnullByDefault
 public class ItemMetalSword extends ItemSword implements IMetalItem, IItemSize
 {
-    private static final Map<Metal, ItemMetalSword> TABLE = new HashMap<>();
+    private static final VariantTable<Metal, ItemMetalSword> TABLE = new VariantTable<>(Metal::getIndex);
 
     @Nullable
     public static ItemMetalSword get(Metal metal)
@@ -68,7 +67,7 @@ public class ItemMetalSword extends ItemSword implements IMetalItem, IItemSize
         {
             material = metal.getToolMetal();
         }
-        if (!TABLE.containsKey(metal))
+        if (TABLE.get(metal) == null)
             TABLE.put(metal, this);
 
         setMaxStackSize(1);
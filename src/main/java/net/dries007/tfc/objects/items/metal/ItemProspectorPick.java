@@ -24,6 +24,7 @@ import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.text.TextComponentTranslation;
 import net.minecraft.world.World;
 
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
 import net.dries007.tfc.ConfigTFC;
 import net.dries007.tfc.TerraFirmaCraft;
 import net.dries007.tfc.api.capability.player.CapabilityPlayerData;
@@ -31,6 +32,8 @@ import net.dries007.tfc.api.types.Metal;
 import net.dries007.tfc.api.types.Ore;
 import net.dries007.tfc.util.skills.ProspectingSkill;
 import net.dries007.tfc.util.skills.SkillType;
+import net.dries007.tfc.world.classic.chunkdata.ChunkDataTFC;
+import net.dries007.tfc.world.classic.chunkdata.ChunkOreCounts;
 import net.dries007.tfc.world.classic.worldgen.vein.VeinRegistry;
 import net.dries007.tfc.world.classic.worldgen.vein.VeinType;
 
@@ -145,7 +148,9 @@ public class ItemProspectorPick extends ItemMetalTool
     }
 
     /**
-     * Loops through every block in a 25x25x25 cube around the center
+     * Counts every ore block in a 25x25x25 cube around the center, one chunk section at a time
+     * Sections with ore counts (see {@link ChunkOreCounts}) are skipped if they have no ores, and counted directly if they are entirely inside the cube.
+     * Any other section is checked block by block.
      *
      * @param world  The world
      * @param center The center position
@@ -155,25 +160,59 @@ public class ItemProspectorPick extends ItemMetalTool
     private Collection<ProspectResult> scanSurroundingBlocks(World world, BlockPos center)
     {
         Map<String, ProspectResult> results = new HashMap<>();
-        for (BlockPos.MutableBlockPos pos : BlockPos.MutableBlockPos.getAllInBoxMutable(center.add(-PROSPECT_RADIUS, -PROSPECT_RADIUS, -PROSPECT_RADIUS), center.add(PROSPECT_RADIUS, PROSPECT_RADIUS, PROSPECT_RADIUS)))
+        final BlockPos min = center.add(-PROSPECT_RADIUS, -PROSPECT_RADIUS, -PROSPECT_RADIUS), max = center.add(PROSPECT_RADIUS, PROSPECT_RADIUS, PROSPECT_RADIUS);
+        final boolean useOreCounts = VeinRegistry.INSTANCE.getVeins().values().stream().noneMatch(vein -> vein instanceof VeinType.CustomVeinType); // Custom veins can be any block, which aren't counted
+        for (int chunkX = min.getX() >> 4; chunkX <= max.getX() >> 4; chunkX++)
         {
-            ItemStack stack = getOreStack(world, pos, world.getBlockState(pos), true);
-            if (!stack.isEmpty())
+            for (int chunkZ = min.getZ() >> 4; chunkZ <= max.getZ() >> 4; chunkZ++)
             {
-                String oreName = stack.getDisplayName();
-                if (results.containsKey(oreName))
+                final ChunkOreCounts oreCounts = useOreCounts ? ChunkDataTFC.get(world.getChunk(chunkX, chunkZ)).getOreCounts() : null;
+                for (int sectionY = Math.max(min.getY(), 0) >> 4; sectionY <= Math.min(max.getY(), 255) >> 4; sectionY++)
                 {
-                    results.get(oreName).score += 1;
-                }
-                else
-                {
-                    results.put(oreName, new ProspectResult(stack, 1));
+                    final BlockPos sectionMin = new BlockPos(Math.max(min.getX(), chunkX << 4), Math.max(min.getY(), sectionY << 4), Math.max(min.getZ(), chunkZ << 4));
+                    final BlockPos sectionMax = new BlockPos(Math.min(max.getX(), (chunkX << 4) + 15), Math.min(max.getY(), (sectionY << 4) + 15), Math.min(max.getZ(), (chunkZ << 4) + 15));
+                    if (oreCounts != null)
+                    {
+                        Object2IntMap<Block> counts = oreCounts.getSection(sectionY);
+                        if (counts.isEmpty())
+                        {
+                            continue;
+                        }
+                        if (sectionMax.subtract(sectionMin).equals(new BlockPos(15, 15, 15)))
+                        {
+                            for (Object2IntMap.Entry<Block> entry : counts.object2IntEntrySet())
+                            {
+                                addResult(results, getOreStack(world, sectionMin, entry.getKey().getDefaultState(), true), entry.getIntValue());
+                            }
+                            continue;
+                        }
+                    }
+                    for (BlockPos.MutableBlockPos pos : BlockPos.MutableBlockPos.getAllInBoxMutable(sectionMin, sectionMax))
+                    {
+                        addResult(results, getOreStack(world, pos, world.getBlockState(pos), true), 1);
+                    }
                 }
             }
         }
         return results.values();
     }
 
+    private void addResult(Map<String, ProspectResult> results, ItemStack stack, int count)
+    {
+        if (!stack.isEmpty())
+        {
+            String oreName = stack.getDisplayName();
+            if (results.containsKey(oreName))
+            {
+                results.get(oreName).score += count;
+            }
+            else
+            {
+                results.put(oreName, new ProspectResult(stack, count));
+            }
+        }
+    }
+
     @Nonnull
     private ItemStack getOreStack(World world, BlockPos pos, IBlockState state, boolean ignoreGrade)
     {
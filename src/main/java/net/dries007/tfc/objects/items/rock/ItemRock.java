@@ -5,8 +5,6 @@
 
 package net.dries007.tfc.objects.items.rock;
 
-import java.util.HashMap;
-import java.util.Map;
 import javax.annotation.Nonnull;
 import javax.annotation.ParametersAreNonnullByDefault;
 
@@ -26,12 +24,13 @@ import net.dries007.tfc.api.util.IRockObject;
 import net.dries007.tfc.client.TFCGuiHandler;
 import net.dries007.tfc.objects.items.ItemTFC;
 import net.dries007.tfc.util.OreDictionaryHelper;
+import net.dries007.tfc.util.collections.VariantTable;
 
 @MethodsReturnNonnullByDefault
 @ParametersAreNonnullByDefault
 public class ItemRock extends ItemTFC implements IRockObject
 {
-    private static final Map<Rock, ItemRock> MAP = new HashMap<>();
+    private static final VariantTable<Rock, ItemRock> MAP = new VariantTable<>(Rock::getIndex);
 
     public static ItemRock get(Rock rock)
     {
@@ -5,9 +5,7 @@
 
 package net.dries007.tfc.objects.items.wood;
 
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
 import javax.annotation.Nonnull;
 import javax.annotation.ParametersAreNonnullByDefault;
@@ -34,12 +32,13 @@ import net.dries007.tfc.api.capability.size.Weight;
 import net.dries007.tfc.api.types.Tree;
 import net.dries007.tfc.objects.entity.EntityBoatTFC;
 import net.dries007.tfc.objects.items.ItemTFC;
+import net.dries007.tfc.util.collections.VariantTable;
 
 @ParametersAreNonnullByDefault
 @MethodsReturnNonnullByDefault
 public class ItemBoatTFC extends ItemTFC
 {
-    private static final Map<Tree, ItemBoatTFC> MAP = new HashMap<>();
+    private static final VariantTable<Tree, ItemBoatTFC> MAP = new VariantTable<>(Tree::getIndex);
 
     public static ItemBoatTFC get(Tree wood)
     {
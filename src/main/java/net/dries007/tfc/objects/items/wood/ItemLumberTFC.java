@@ -5,8 +5,6 @@
 
 package net.dries007.tfc.objects.items.wood;
 
-import java.util.HashMap;
-import java.util.Map;
 import javax.annotation.Nonnull;
 import javax.annotation.ParametersAreNonnullByDefault;
 
@@ -18,12 +16,13 @@ import net.dries007.tfc.api.capability.size.Weight;
 import net.dries007.tfc.api.types.Tree;
 import net.dries007.tfc.objects.items.ItemTFC;
 import net.dries007.tfc.util.OreDictionaryHelper;
+import net.dries007.tfc.util.collections.VariantTable;
 
 @MethodsReturnNonnullByDefault
 @ParametersAreNonnullByDefault
 public class ItemLumberTFC extends ItemTFC
 {
-    private static final Map<Tree, ItemLumberTFC> MAP = new HashMap<>();
+    private static final VariantTable<Tree, ItemLumberTFC> MAP = new VariantTable<>(Tree::getIndex);
 
     public static ItemLumberTFC get(Tree wood)
     {
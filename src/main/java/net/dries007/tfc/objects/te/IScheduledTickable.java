@@ -0,0 +1,20 @@
+/*
+ * Work under Copyright. Licensed under the EUPL.
+ * See the project README.md and LICENSE.txt for more information.
+ */
+
+package net.dries007.tfc.objects.te;
+
+/**
+ * Implemented on tile entities that don't tick, but need to do something at a specific (player) time.
+ * Register a wake up with {@link TEScheduler#schedule(net.minecraft.tileentity.TileEntity, long)}
+ *
+ * Scheduled wake ups are not saved. Implementations should schedule themselves again in {@code onLoad()}, which will catch up on any deadline that passed while the chunk was unloaded.
+ */
+public interface IScheduledTickable
+{
+    /**
+     * Called on server, on or after the scheduled tick. This may be called more than once for the same deadline, so implementations should check their own state
+     */
+    void onScheduledTick();
+}
@@ -14,7 +14,6 @@ import net.minecraft.init.Blocks;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.util.EnumFacing;
-import net.minecraft.util.ITickable;
 import net.minecraft.util.math.MathHelper;
 
 import mcp.MethodsReturnNonnullByDefault;
@@ -32,7 +31,7 @@ import static net.dries007.tfc.objects.blocks.property.ILightableBlock.LIT;
 
 @ParametersAreNonnullByDefault
 @MethodsReturnNonnullByDefault
-public class TELogPile extends TEInventory implements ITickable
+public class TELogPile extends TEInventory implements IScheduledTickable
 {
     private static final int NUM_SLOTS = 4;
 
@@ -98,27 +97,42 @@ public class TELogPile extends TEInventory implements ITickable
     }
 
     @Override
-    public void update()
+    public void onLoad()
     {
-        if (!world.isRemote)
+        // Catch up on (or wait for) burning, and check for any fire that was placed while unloaded
+        TEScheduler.schedule(this, burning ? getBurnDeadline() : CalendarTFC.PLAYER_TIME.getTicks());
+    }
+
+    /**
+     * Log piles don't tick. They are lit either by {@link TELogPile#light()}, or by a neighbour update from fire above, and then woken up once they have burnt
+     */
+    @Override
+    public void onScheduledTick()
+    {
+        if (burning)
         {
-            if (burning)
+            if ((int) (CalendarTFC.PLAYER_TIME.getTicks() - startBurningTick) > ConfigTFC.Devices.CHARCOAL_PIT.ticks)
             {
-                if ((int) (CalendarTFC.PLAYER_TIME.getTicks() - startBurningTick) > ConfigTFC.Devices.CHARCOAL_PIT.ticks)
+                // Attempt to turn this log pile into charcoal
+                createCharcoal();
+                if (world.getTileEntity(pos) == this)
                 {
-                    // Attempt to turn this log pile into charcoal
-                    createCharcoal();
+                    // Waiting for the log pile below to turn into charcoal first, so try again next tick
+                    TEScheduler.schedule(this, CalendarTFC.PLAYER_TIME.getTicks() + 1);
                 }
             }
             else
             {
-                if (world.getBlockState(pos.up()).getBlock() == Blocks.FIRE)
-                {
-                    burning = true;
-                    startBurningTick = CalendarTFC.PLAYER_TIME.getTicks();
-                }
+                // Config changed, or woken early
+                TEScheduler.schedule(this, getBurnDeadline());
             }
         }
+        else if (world.getBlockState(pos.up()).getBlock() == Blocks.FIRE)
+        {
+            burning = true;
+            startBurningTick = CalendarTFC.PLAYER_TIME.getTicks();
+            TEScheduler.schedule(this, getBurnDeadline());
+        }
     }
 
     @Override
@@ -189,6 +203,7 @@ public class TELogPile extends TEInventory implements ITickable
     {
         burning = true;
         startBurningTick = CalendarTFC.PLAYER_TIME.getTicks();
+        TEScheduler.schedule(this, getBurnDeadline());
         tryLightNearby();
         markDirty();
     }
@@ -203,6 +218,11 @@ public class TELogPile extends TEInventory implements ITickable
         return logs;
     }
 
+    private long getBurnDeadline()
+    {
+        return startBurningTick + ConfigTFC.Devices.CHARCOAL_PIT.ticks + 1;
+    }
+
     private void tryLightNearby()
     {
         for (EnumFacing side : EnumFacing.values())
@@ -0,0 +1,142 @@
+/*
+ * Work under Copyright. Licensed under the EUPL.
+ * See the project README.md and LICENSE.txt for more information.
+ */
+
+package net.dries007.tfc.objects.te;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.fml.common.Mod;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.fml.common.gameevent.TickEvent;
+
+import net.dries007.tfc.util.calendar.CalendarTFC;
+
+import static net.dries007.tfc.TerraFirmaCraft.MOD_ID;
+
+/**
+ * Wakes up {@link IScheduledTickable} tile entities at a specific player tick, so devices that are only waiting for something to finish don't need to tick.
+ * Deadlines are in player time (see {@link CalendarTFC#PLAYER_TIME}), so they stop when the calendar does.
+ */
+@Mod.EventBusSubscriber(modid = MOD_ID)
+public final class TEScheduler
+{
+    private static final Map<Integer, Schedule> SCHEDULED = new HashMap<>();
+
+    /**
+     * Schedules a tile entity to be woken up on or after the given player tick. Deadlines that already passed are woken at the end of this tick.
+     * Each position has at most one pending wake up, so this replaces any earlier one for the same position.
+     */
+    public static void schedule(TileEntity tile, long playerTick)
+    {
+        World world = tile.getWorld();
+        if (tile instanceof IScheduledTickable && !world.isRemote)
+        {
+            Entry entry = new Entry(tile.getPos(), playerTick);
+            Schedule schedule = SCHEDULED.computeIfAbsent(world.provider.getDimension(), k -> new Schedule());
+            schedule.current.put(entry.pos, entry);
+            schedule.queue.add(entry);
+        }
+    }
+
+    /**
+     * @return the number of pending wake ups in a world, for loaded tile entities which are still valid
+     */
+    public static int getScheduled(World world)
+    {
+        Schedule schedule = SCHEDULED.get(world.provider.getDimension());
+        if (schedule == null)
+        {
+            return 0;
+        }
+        int count = 0;
+        for (BlockPos pos : schedule.current.keySet())
+        {
+            if (world.isBlockLoaded(pos))
+            {
+                TileEntity tile = world.getTileEntity(pos);
+                if (tile instanceof IScheduledTickable && !tile.isInvalid())
+                {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    @SubscribeEvent
+    public static void onWorldTick(TickEvent.WorldTickEvent event)
+    {
+        if (event.phase == TickEvent.Phase.END && !event.world.isRemote)
+        {
+            Schedule schedule = SCHEDULED.get(event.world.provider.getDimension());
+            if (schedule != null && !schedule.queue.isEmpty())
+            {
+                event.world.profiler.startSection("tfcScheduledTiles");
+                final long playerTick = CalendarTFC.PLAYER_TIME.getTicks();
+                PriorityQueue<Entry> queue = schedule.queue;
+                while (!queue.isEmpty() && queue.peek().deadline <= playerTick)
+                {
+                    Entry entry = queue.poll();
+                    // Replaced entries are left in the queue, and skipped here
+                    if (!schedule.current.remove(entry.pos, entry))
+                    {
+                        continue;
+                    }
+                    // Unloaded tiles will schedule themselves again when loaded
+                    if (event.world.isBlockLoaded(entry.pos))
+                    {
+                        TileEntity tile = event.world.getTileEntity(entry.pos);
+                        if (tile instanceof IScheduledTickable && !tile.isInvalid())
+                        {
+                            ((IScheduledTickable) tile).onScheduledTick();
+                        }
+                    }
+                }
+                event.world.profiler.endSection();
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public static void onWorldUnload(WorldEvent.Unload event)
+    {
+        if (!event.getWorld().isRemote)
+        {
+            SCHEDULED.remove(event.getWorld().provider.getDimension());
+        }
+    }
+
+    private static final class Schedule
+    {
+        private final PriorityQueue<Entry> queue = new PriorityQueue<>();
+        private final Map<BlockPos, Entry> current = new HashMap<>();
+    }
+
+    private static final class Entry implements Comparable<Entry>
+    {
+        private final BlockPos pos;
+        private final long deadline;
+
+        private Entry(BlockPos pos, long deadline)
+        {
+            this.pos = pos;
+            this.deadline = deadline;
+        }
+
+        @Override
+        public int compareTo(Entry other)
+        {
+            return Long.compare(deadline, other.deadline);
+        }
+    }
+
+    private TEScheduler() {}
+}
@@ -5,9 +5,7 @@
 
 package net.dries007.tfc.objects.te;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import javax.annotation.ParametersAreNonnullByDefault;
@@ -25,7 +23,6 @@ import net.minecraft.util.ITickable;
 import net.minecraft.util.math.AxisAlignedBB;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.ChunkPos;
-import net.minecraft.world.chunk.Chunk;
 import net.minecraftforge.fluids.BlockFluidBase;
 import net.minecraftforge.fluids.Fluid;
 import net.minecraftforge.fml.relauncher.Side;
@@ -42,8 +39,7 @@ import net.dries007.tfc.objects.fluids.FluidsTFC;
 import net.dries007.tfc.objects.items.ItemGem;
 import net.dries007.tfc.objects.items.metal.ItemSmallOre;
 import net.dries007.tfc.util.Helpers;
-import net.dries007.tfc.world.classic.chunkdata.ChunkDataTFC;
-import net.dries007.tfc.world.classic.worldgen.vein.Vein;
+import net.dries007.tfc.world.classic.chunkdata.ChunkOreIndex;
 
 @ParametersAreNonnullByDefault
 public class TESluice extends TEBase implements ITickable
@@ -69,37 +65,11 @@ public class TESluice extends TEBase implements ITickable
                 {
                     if (Constants.RNG.nextDouble() < ConfigTFC.Devices.SLUICE.oreChance)
                     {
-                        ChunkPos myPos = world.getChunk(pos).getPos();
-                        int radius = ConfigTFC.Devices.SLUICE.radius;
-                        //Copy from Helper method, but only look for workable chunks
-                        List<Chunk> chunks = new ArrayList<>();
-                        for (int x = myPos.x - radius; x <= myPos.x + radius; x++)
+                        // Only chunks in the index are considered, so this never loads any chunks
+                        Ore ore = ChunkOreIndex.get(world).work(world, new ChunkPos(pos), ConfigTFC.Devices.SLUICE.radius, Constants.RNG);
+                        if (ore != null)
                         {
-                            for (int z = myPos.z - radius; z <= myPos.z + radius; z++)
-                            {
-                                Chunk chunk = world.getChunk(x, z);
-                                ChunkDataTFC chunkData = ChunkDataTFC.get(chunk);
-                                if (chunkData.canWork(1) && chunkData.getGeneratedVeins().stream().anyMatch(vein -> vein.getType() != null && vein.getType().getOre() != null))
-                                {
-                                    chunks.add(chunk);
-                                }
-                            }
-                        }
-                        if (chunks.size() > 0)
-                        {
-                            Chunk workingChunk = chunks.get(Constants.RNG.nextInt(chunks.size()));
-                            ChunkDataTFC chunkData = ChunkDataTFC.get(workingChunk);
-
-                            // Only check for not null veins
-                            List<Vein> veinList = chunkData.getGeneratedVeins()
-                                .stream().filter(vein -> vein.getType() != null && vein.getType().getOre() != null)
-                                .collect(Collectors.toList());
-
-                            //noinspection ConstantConditions
-                            Ore ore = veinList.get(Constants.RNG.nextInt(veinList.size())).getType().getOre();
-                            ItemStack output = new ItemStack(ItemSmallOre.get(ore));
-                            Helpers.spawnItemStack(world, getFrontWaterPos(), output);
-                            chunkData.addWork();
+                            Helpers.spawnItemStack(world, getFrontWaterPos(), new ItemStack(ItemSmallOre.get(ore)));
                         }
                     }
                     if (Constants.RNG.nextDouble() < ConfigTFC.Devices.SLUICE.gemChance)
@@ -27,6 +27,7 @@ import net.dries007.tfc.api.recipes.knapping.KnappingRecipe;
 import net.dries007.tfc.api.recipes.quern.QuernRecipe;
 import net.dries007.tfc.api.registries.TFCRegistryEvent;
 import net.dries007.tfc.api.types.*;
+import net.dries007.tfc.objects.inventory.ingredient.IngredientIndex;
 
 import static net.dries007.tfc.TerraFirmaCraft.MOD_ID;
 import static net.dries007.tfc.api.registries.TFCRegistryNames.*;
@@ -73,7 +74,8 @@ public final class Registries
 
     private static <T extends IForgeRegistryEntry<T>> void newRegistry(ResourceLocation name, Class<T> tClass, boolean isPreBlockRegistry)
     {
-        IForgeRegistry<T> reg = new RegistryBuilder<T>().setName(name).allowModification().setType(tClass).create();
+        // Recipe lookups are compiled from the registries, so any new entry (i.e. from CraftTweaker, or a registry sync) invalidates them. Removals are caught by the registry size changing
+        IForgeRegistry<T> reg = new RegistryBuilder<T>().setName(name).allowModification().setType(tClass).add((IForgeRegistry.AddCallback<T>) (owner, stage, id, obj, oldObj) -> IngredientIndex.invalidateAll()).create();
         if (isPreBlockRegistry)
         {
             preBlockRegistries.put(name, reg);
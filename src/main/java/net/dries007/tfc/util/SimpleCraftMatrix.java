@@ -7,6 +7,8 @@ package net.dries007.tfc.util;
 
 import java.util.Arrays;
 
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import it.unimi.dsi.fastutil.ints.IntSet;
 import net.dries007.tfc.TerraFirmaCraft;
 
 /**
@@ -135,6 +137,41 @@ public class SimpleCraftMatrix
         return true;
     }
 
+    /**
+     * @return this matrix as a bit mask, with bit (x + y * width) set for every full slot
+     */
+    public int toMask()
+    {
+        int mask = 0;
+        for (int i = 0; i < area; i++)
+        {
+            if (matrix[i])
+            {
+                mask |= 1 << i;
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * The equivalent of {@link SimpleCraftMatrix#matches(SimpleCraftMatrix)} for bit masks: this (the pattern) is tried at every shift and mirror within a max size matrix.
+     *
+     * @return the masks (see {@link SimpleCraftMatrix#toMask()}) of every max size matrix that this pattern matches
+     */
+    public IntSet getMatchingMasks()
+    {
+        IntSet masks = new IntOpenHashSet();
+        for (int xShift = 0; xShift <= MAX_WIDTH - width; xShift++)
+        {
+            for (int yShift = 0; yShift <= MAX_HEIGHT - height; yShift++)
+            {
+                masks.add(toMask(xShift, yShift, false));
+                masks.add(toMask(xShift, yShift, true));
+            }
+        }
+        return masks;
+    }
+
     /**
      * Used to check if a craft matrix matches another one.
      *
@@ -190,4 +227,33 @@ public class SimpleCraftMatrix
         }
         return true;
     }
+
+    private int toMask(int startX, int startY, boolean isMirrored)
+    {
+        int mask = 0;
+        for (int x = 0; x < MAX_WIDTH; x++)
+        {
+            for (int y = 0; y < MAX_HEIGHT; y++)
+            {
+                boolean value;
+                if (x < startX || y < startY || x - startX >= width || y - startY >= height)
+                {
+                    value = outsideSlot;
+                }
+                else if (isMirrored)
+                {
+                    value = matrix[(y - startY) * width + (width - 1 - (x - startX))];
+                }
+                else
+                {
+                    value = matrix[(y - startY) * width + (x - startX)];
+                }
+                if (value)
+                {
+                    mask |= 1 << (y * MAX_WIDTH + x);
+                }
+            }
+        }
+        return mask;
+    }
 }
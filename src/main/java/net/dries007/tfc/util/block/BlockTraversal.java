@@ -0,0 +1,146 @@
+/*
+ * Work under Copyright. Licensed under the EUPL.
+ * See the project README.md and LICENSE.txt for more information.
+ */
+
+package net.dries007.tfc.util.block;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import net.minecraft.util.EnumFacing;
+import net.minecraft.util.math.BlockPos;
+
+import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+
+/**
+ * A breadth first search through connected blocks, i.e. all the logs of a tree, or the leaves between a leaf and its tree.
+ * Positions are kept as packed longs: visited positions in an open addressed hash set, and the frontier in a ring buffer, so a search doesn't allocate a {@link BlockPos} per block.
+ * Searches are not thread safe, or re-entrant. Visitors shouldn't start another search with the same instance.
+ */
+public final class BlockTraversal
+{
+    /**
+     * The six blocks sharing a face
+     */
+    public static final BlockPos[] ADJACENT;
+    /**
+     * The 26 blocks in the surrounding 3x3x3 cube
+     */
+    public static final BlockPos[] SURROUNDING;
+
+    static
+    {
+        ADJACENT = new BlockPos[EnumFacing.VALUES.length];
+        for (EnumFacing face : EnumFacing.VALUES)
+        {
+            ADJACENT[face.ordinal()] = BlockPos.ORIGIN.offset(face);
+        }
+
+        List<BlockPos> surrounding = new ArrayList<>(26);
+        for (int x = -1; x <= 1; x++)
+        {
+            for (int y = -1; y <= 1; y++)
+            {
+                for (int z = -1; z <= 1; z++)
+                {
+                    if (x != 0 || y != 0 || z != 0)
+                    {
+                        surrounding.add(new BlockPos(x, y, z));
+                    }
+                }
+            }
+        }
+        SURROUNDING = surrounding.toArray(new BlockPos[0]);
+    }
+
+    // Same layout as BlockPos#toLong
+    private static long pack(int x, int y, int z)
+    {
+        return ((long) x & 0x3FFFFFFL) << 38 | ((long) y & 0xFFFL) << 26 | ((long) z & 0x3FFFFFFL);
+    }
+
+    private final BlockPos[] offsets;
+    private final int maxDepth;
+    private final LongOpenHashSet visited = new LongOpenHashSet();
+    private final LongArrayFIFOQueue frontier = new LongArrayFIFOQueue();
+
+    /**
+     * @param offsets  the offsets from a block to its neighbours
+     * @param maxDepth the maximum number of steps from the origin which will be searched
+     */
+    public BlockTraversal(BlockPos[] offsets, int maxDepth)
+    {
+        this.offsets = offsets;
+        this.maxDepth = maxDepth;
+    }
+
+    /**
+     * Searches outwards from the origin. Every position is visited at most once, and the origin itself is never visited.
+     *
+     * @return true if the visitor stopped the search
+     */
+    public boolean search(BlockPos origin, Visitor visitor)
+    {
+        visited.clear();
+        frontier.clear();
+
+        long originKey = pack(origin.getX(), origin.getY(), origin.getZ());
+        visited.add(originKey);
+        frontier.enqueue(originKey);
+
+        BlockPos.MutableBlockPos cursor = new BlockPos.MutableBlockPos();
+        for (int depth = 0; depth < maxDepth && !frontier.isEmpty(); depth++)
+        {
+            for (int remaining = frontier.size(); remaining > 0; remaining--)
+            {
+                long key = frontier.dequeueLong();
+                int x = (int) (key >> 38), y = (int) (key << 26 >> 52), z = (int) (key << 38 >> 38);
+                for (BlockPos offset : offsets)
+                {
+                    int nextX = x + offset.getX(), nextY = y + offset.getY(), nextZ = z + offset.getZ();
+                    long nextKey = pack(nextX, nextY, nextZ);
+                    if (visited.add(nextKey))
+                    {
+                        Result result = visitor.visit(cursor.setPos(nextX, nextY, nextZ));
+                        if (result == Result.STOP)
+                        {
+                            return true;
+                        }
+                        if (result == Result.CONTINUE)
+                        {
+                            frontier.enqueue(nextKey);
+                        }
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    public enum Result
+    {
+        /**
+         * Don't search past this position
+         */
+        IGNORE,
+        /**
+         * Search the neighbours of this position
+         */
+        CONTINUE,
+        /**
+         * End the search
+         */
+        STOP
+    }
+
+    @FunctionalInterface
+    public interface Visitor
+    {
+        /**
+         * @param pos the position being visited. This is reused between calls, so use {@link BlockPos#toImmutable()} to keep it
+         */
+        Result visit(BlockPos.MutableBlockPos pos);
+    }
+}
@@ -5,34 +5,290 @@
 
 package net.dries007.tfc.util.climate;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.StampedLock;
 import javax.annotation.Nonnull;
 
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.ChunkPos;
 
+import it.unimi.dsi.fastutil.HashCommon;
+
 /**
  * This stores climate data for when the world context is not available
+ *
+ * This is a fixed size, open addressed (linear probing) table keyed by {@link ChunkPos#asLong(int, int)}, with primitive float values.
+ * Once full, entries are evicted using the CLOCK (second chance) algorithm. Entries are also removed when their chunk unloads.
+ * Reads are lock free (optimistic) and safe from any thread, writes are exclusive.
  */
 public final class ClimateCache
 {
-    private final Map<ChunkPos, ClimateData> backingMap = new HashMap<>();
+    private final int capacity;
+    private final int mask;
+    private final long[] keys;
+    private final float[] temperatures;
+    private final float[] rainfalls;
+    private final boolean[] used;
+    private final boolean[] referenced;
+
+    private final StampedLock lock = new StampedLock();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private int size;
+    private int clockHand;
+
+    public ClimateCache(int capacity)
+    {
+        this.capacity = capacity;
+        int tableSize = Integer.highestOneBit(Math.max(2 * capacity - 1, 1)) << 1; // Keep the load factor at or below 0.5
+        this.mask = tableSize - 1;
+        this.keys = new long[tableSize];
+        this.temperatures = new float[tableSize];
+        this.rainfalls = new float[tableSize];
+        this.used = new boolean[tableSize];
+        this.referenced = new boolean[tableSize];
+    }
 
     @Nonnull
     public ClimateData get(BlockPos pos)
     {
-        return get(new ChunkPos(pos));
+        return get(pos.getX() >> 4, pos.getZ() >> 4);
     }
 
     @Nonnull
     public ClimateData get(ChunkPos pos)
     {
-        return backingMap.getOrDefault(pos, ClimateData.DEFAULT);
+        return get(pos.x, pos.z);
+    }
+
+    @Nonnull
+    public ClimateData get(int chunkX, int chunkZ)
+    {
+        long key = ChunkPos.asLong(chunkX, chunkZ);
+        long stamp = lock.tryOptimisticRead();
+        int slot = find(key);
+        ClimateData data = slot == -1 ? ClimateData.DEFAULT : new ClimateData(temperatures[slot], rainfalls[slot]);
+        if (!lock.validate(stamp))
+        {
+            stamp = lock.readLock();
+            try
+            {
+                slot = find(key);
+                data = slot == -1 ? ClimateData.DEFAULT : new ClimateData(temperatures[slot], rainfalls[slot]);
+            }
+            finally
+            {
+                lock.unlockRead(stamp);
+            }
+        }
+        recordAccess(slot);
+        return data;
+    }
+
+    public float getRegionalTemp(BlockPos pos)
+    {
+        return read(pos.getX() >> 4, pos.getZ() >> 4, false);
+    }
+
+    public float getRainfall(BlockPos pos)
+    {
+        return read(pos.getX() >> 4, pos.getZ() >> 4, true);
     }
 
     public void update(ChunkPos pos, float temperature, float rainfall)
     {
-        backingMap.put(pos, new ClimateData(temperature, rainfall));
+        long key = ChunkPos.asLong(pos.x, pos.z);
+        long stamp = lock.writeLock();
+        try
+        {
+            int slot = find(key);
+            if (slot == -1)
+            {
+                if (size >= capacity)
+                {
+                    evict();
+                }
+                slot = (int) HashCommon.mix(key) & mask;
+                while (used[slot])
+                {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = key;
+                used[slot] = true;
+                size++;
+            }
+            temperatures[slot] = temperature;
+            rainfalls[slot] = rainfall;
+            referenced[slot] = true;
+        }
+        finally
+        {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public void remove(ChunkPos pos)
+    {
+        long key = ChunkPos.asLong(pos.x, pos.z);
+        long stamp = lock.writeLock();
+        try
+        {
+            int slot = find(key);
+            if (slot != -1)
+            {
+                removeSlot(slot);
+            }
+        }
+        finally
+        {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public int getSize()
+    {
+        long stamp = lock.readLock();
+        try
+        {
+            return size;
+        }
+        finally
+        {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    public int getCapacity()
+    {
+        return capacity;
+    }
+
+    public long getHits()
+    {
+        return hits.sum();
+    }
+
+    public long getMisses()
+    {
+        return misses.sum();
+    }
+
+    private float read(int chunkX, int chunkZ, boolean rainfall)
+    {
+        long key = ChunkPos.asLong(chunkX, chunkZ);
+        long stamp = lock.tryOptimisticRead();
+        int slot = find(key);
+        float value = readSlot(slot, rainfall);
+        if (!lock.validate(stamp))
+        {
+            stamp = lock.readLock();
+            try
+            {
+                slot = find(key);
+                value = readSlot(slot, rainfall);
+            }
+            finally
+            {
+                lock.unlockRead(stamp);
+            }
+        }
+        recordAccess(slot);
+        return value;
+    }
+
+    private float readSlot(int slot, boolean rainfall)
+    {
+        if (slot == -1)
+        {
+            return rainfall ? ClimateData.DEFAULT.getRainfall() : ClimateData.DEFAULT.getRegionalTemp();
+        }
+        return rainfall ? rainfalls[slot] : temperatures[slot];
+    }
+
+    private void recordAccess(int slot)
+    {
+        if (slot == -1)
+        {
+            misses.increment();
+        }
+        else
+        {
+            hits.increment();
+            referenced[slot] = true; // Benign race, this is only a hint for eviction
+        }
+    }
+
+    /**
+     * @return the slot containing the key, or -1 if not present. The probe length is bounded so this is safe to call during an optimistic read
+     */
+    private int find(long key)
+    {
+        int slot = (int) HashCommon.mix(key) & mask;
+        for (int i = 0; i <= mask; i++)
+        {
+            if (!used[slot])
+            {
+                return -1;
+            }
+            if (keys[slot] == key)
+            {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Second chance eviction: sweep the clock hand until an entry that has not been accessed since the last sweep is found
+     */
+    private void evict()
+    {
+        while (true)
+        {
+            int slot = clockHand;
+            clockHand = (clockHand + 1) & mask;
+            if (used[slot])
+            {
+                if (referenced[slot])
+                {
+                    referenced[slot] = false;
+                }
+                else
+                {
+                    removeSlot(slot);
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes an entry using backward shift deletion, which keeps every remaining key reachable from its home slot without tombstones
+     */
+    private void removeSlot(int slot)
+    {
+        int hole = slot;
+        int next = slot;
+        while (true)
+        {
+            next = (next + 1) & mask;
+            if (!used[next])
+            {
+                break;
+            }
+            int home = (int) HashCommon.mix(keys[next]) & mask;
+            if (((next - home) & mask) >= ((next - hole) & mask))
+            {
+                keys[hole] = keys[next];
+                temperatures[hole] = temperatures[next];
+                rainfalls[hole] = rainfalls[next];
+                referenced[hole] = referenced[next];
+                hole = next;
+            }
+        }
+        used[hole] = false;
+        referenced[hole] = false;
+        size--;
     }
 }
@@ -5,23 +5,15 @@
 
 package net.dries007.tfc.util.climate;
 
-import java.util.Random;
-
-import net.minecraft.util.math.MathHelper;
-
-import net.dries007.tfc.ConfigTFC;
 import net.dries007.tfc.util.calendar.CalendarTFC;
 import net.dries007.tfc.util.calendar.ICalendar;
 import net.dries007.tfc.util.calendar.ICalendarFormatted;
 import net.dries007.tfc.util.calendar.Month;
-import net.dries007.tfc.util.config.TemperatureMode;
 
 import static net.dries007.tfc.world.classic.WorldTypeTFC.SEALEVEL;
 
 public class ClimateHelper
 {
-    private static final Random RANDOM = new Random();
-
     /**
      * @return The month adjusted temperature. This gets the base temperature, before daily / hourly changes
      */
@@ -35,24 +27,7 @@ public class ClimateHelper
      */
     public static float dailyTemp(float regionalTemp, int z, long timeOffset)
     {
-        // Hottest part of the day at 12, coldest at 0
-        int hourOfDay = ICalendarFormatted.getHourOfDay(CalendarTFC.CALENDAR_TIME.getTicks() + timeOffset);
-        if (hourOfDay > 12)
-        {
-            // Range: 0 - 12
-            hourOfDay = 24 - hourOfDay;
-        }
-        // Range: -1 - 1
-        float hourModifier = (hourOfDay / 6f) - 1f;
-
-        // Note: this does not use world seed, as that is not synced from server - client, resulting in the seed being different
-        long day = ICalendar.getTotalDays(CalendarTFC.CALENDAR_TIME.getTicks() + timeOffset);
-        RANDOM.setSeed(day);
-        // Range: -1 - 1
-        final float dailyModifier = RANDOM.nextFloat() - RANDOM.nextFloat();
-
-        // Max daily / hourly variance is +/- 4 C
-        return monthlyTemp(regionalTemp, z, timeOffset) + (dailyModifier + 0.3f * hourModifier) * 3f;
+        return dailyTempAt(regionalTemp, z, CalendarTFC.CALENDAR_TIME.getTicks() + timeOffset);
     }
 
     /**
@@ -60,15 +35,40 @@ public class ClimateHelper
      */
     public static float monthlyTemp(float regionalTemp, int z, long timeOffset)
     {
-        long time = CalendarTFC.CALENDAR_TIME.getTicks() + timeOffset;
-        Month monthOfYear = ICalendarFormatted.getMonthOfYear(time, CalendarTFC.CALENDAR_TIME.getDaysInMonth());
+        return monthlyTempAt(regionalTemp, z, CalendarTFC.CALENDAR_TIME.getTicks() + timeOffset);
+    }
 
-        final float currentMonthFactor = monthFactor(regionalTemp, monthOfYear, z);
-        final float nextMonthFactor = monthFactor(regionalTemp, monthOfYear.next(), z);
+    /**
+     * Batch version of {@link ClimateHelper#actualTemp(float, int, int, long)}, for a single position at many time offsets
+     *
+     * @param timeOffsets the time offsets to query
+     * @param out         the array to fill, must be at least as long as timeOffsets
+     */
+    public static void fillActualTemps(float regionalTemp, int y, int z, long[] timeOffsets, float[] out)
+    {
+        final long now = CalendarTFC.CALENDAR_TIME.getTicks();
+        final float height = heightFactor(y);
+        for (int i = 0; i < timeOffsets.length; i++)
+        {
+            out[i] = dailyTempAt(regionalTemp, z, now + timeOffsets[i]) - height;
+        }
+    }
 
-        final float delta = (float) ICalendarFormatted.getDayOfMonth(time, CalendarTFC.CALENDAR_TIME.getDaysInMonth()) / CalendarTFC.CALENDAR_TIME.getDaysInMonth();
-        // Affine combination to smooth temperature transition
-        return currentMonthFactor * (1 - delta) + nextMonthFactor * delta;
+    /**
+     * Batch version of {@link ClimateHelper#actualTemp(float, int, int, long)}, for many positions at a single time offset
+     *
+     * @param regionalTemps the regional temperature of each position
+     * @param ys            the y coordinate of each position
+     * @param zs            the z coordinate of each position
+     * @param out           the array to fill, must be at least as long as the inputs
+     */
+    public static void fillActualTemps(float[] regionalTemps, int[] ys, int[] zs, long timeOffset, float[] out)
+    {
+        final long time = CalendarTFC.CALENDAR_TIME.getTicks() + timeOffset;
+        for (int i = 0; i < regionalTemps.length; i++)
+        {
+            out[i] = dailyTempAt(regionalTemps[i], zs[i], time) - heightFactor(ys[i]);
+        }
     }
 
     /**
@@ -107,7 +107,7 @@ public class ClimateHelper
 
     public static float monthFactor(float regionalTemp, float monthTempModifier, int z)
     {
-        return (41f - monthTempModifier * 1.1f * (1 - 0.8f * latitudeFactor(z))) + regionalTemp;
+        return monthFactorForLatitude(regionalTemp, monthTempModifier, latitudeFactor(z));
     }
 
     /**
@@ -118,12 +118,44 @@ public class ClimateHelper
      */
     public static float latitudeFactor(int chunkZ)
     {
-        int tempRange = ConfigTFC.General.WORLD.latitudeTemperatureModifier;
-        if (ConfigTFC.General.WORLD.temperatureMode != TemperatureMode.CYCLIC)
+        return ClimateTables.latitudeFactor(chunkZ);
+    }
+
+    private static float dailyTempAt(float regionalTemp, int z, long time)
+    {
+        // Hottest part of the day at 12, coldest at 0
+        int hourOfDay = ICalendarFormatted.getHourOfDay(time);
+        if (hourOfDay > 12)
         {
-            chunkZ = MathHelper.clamp(chunkZ, -tempRange / 2, tempRange / 2);
+            // Range: 0 - 12
+            hourOfDay = 24 - hourOfDay;
         }
-        return 0.5f + 0.5f * ConfigTFC.General.WORLD.hemisphereType.getValue() * (float) Math.sin(Math.PI * chunkZ / tempRange);
+        // Range: -1 - 1
+        float hourModifier = (hourOfDay / 6f) - 1f;
+
+        // Range: -1 - 1
+        final float dailyModifier = ClimateTables.dailyModifier(ICalendar.getTotalDays(time));
+
+        // Max daily / hourly variance is +/- 4 C
+        return monthlyTempAt(regionalTemp, z, time) + (dailyModifier + 0.3f * hourModifier) * 3f;
+    }
+
+    private static float monthlyTempAt(float regionalTemp, int z, long time)
+    {
+        Month monthOfYear = ICalendarFormatted.getMonthOfYear(time, CalendarTFC.CALENDAR_TIME.getDaysInMonth());
+
+        final float latitudeFactor = latitudeFactor(z);
+        final float currentMonthFactor = monthFactorForLatitude(regionalTemp, monthOfYear.getTemperatureModifier(), latitudeFactor);
+        final float nextMonthFactor = monthFactorForLatitude(regionalTemp, monthOfYear.next().getTemperatureModifier(), latitudeFactor);
+
+        final float delta = (float) ICalendarFormatted.getDayOfMonth(time, CalendarTFC.CALENDAR_TIME.getDaysInMonth()) / CalendarTFC.CALENDAR_TIME.getDaysInMonth();
+        // Affine combination to smooth temperature transition
+        return currentMonthFactor * (1 - delta) + nextMonthFactor * delta;
+    }
+
+    private static float monthFactorForLatitude(float regionalTemp, float monthTempModifier, float latitudeFactor)
+    {
+        return (41f - monthTempModifier * 1.1f * (1 - 0.8f * latitudeFactor)) + regionalTemp;
     }
 
     private ClimateHelper() {}
@@ -0,0 +1,87 @@
+/*
+ * Work under Copyright. Licensed under the EUPL.
+ * See the project README.md and LICENSE.txt for more information.
+ */
+
+package net.dries007.tfc.util.climate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+import javax.annotation.Nonnull;
+
+import net.minecraft.util.math.MathHelper;
+
+/**
+ * Groups values (i.e. plants or trees) by the temperature and rainfall they are valid in, so world gen only needs to check the ones which might be valid for a chunk.
+ * The world is split into bands of temperature and rainfall, and each band lists every value whose range overlaps it, in the order they were given.
+ * Values returned by {@link ClimateIndex#get(float, float)} still need to be checked exactly: they are only the ones which could be valid.
+ *
+ * @param <T> the value type
+ */
+public final class ClimateIndex<T>
+{
+    private static final float MIN_TEMP = -40f;
+    private static final float TEMP_BAND = 2f;
+    private static final int TEMP_BANDS = 50;
+    private static final float MIN_RAIN = 0f;
+    private static final float RAIN_BAND = 25f;
+    private static final int RAIN_BANDS = 20;
+
+    private static int tempBand(float temp)
+    {
+        return MathHelper.clamp(MathHelper.floor((temp - MIN_TEMP) / TEMP_BAND), 0, TEMP_BANDS - 1);
+    }
+
+    private static int rainBand(float rain)
+    {
+        return MathHelper.clamp(MathHelper.floor((rain - MIN_RAIN) / RAIN_BAND), 0, RAIN_BANDS - 1);
+    }
+
+    private final List<T>[] bands;
+
+    /**
+     * @param values  the values to index
+     * @param minTemp the lowest temperature a value can be valid at
+     * @param maxTemp the highest temperature a value can be valid at
+     * @param minRain the lowest rainfall a value can be valid at
+     * @param maxRain the highest rainfall a value can be valid at
+     */
+    @SuppressWarnings("unchecked")
+    public ClimateIndex(Collection<T> values, ToDoubleFunction<T> minTemp, ToDoubleFunction<T> maxTemp, ToDoubleFunction<T> minRain, ToDoubleFunction<T> maxRain)
+    {
+        bands = new List[TEMP_BANDS * RAIN_BANDS];
+        for (int i = 0; i < bands.length; i++)
+        {
+            bands[i] = new ArrayList<>();
+        }
+        for (T value : values)
+        {
+            // The outermost bands cover everything past them, and neighbouring bands are included so rounding at a band edge can only over-include
+            int fromTemp = tempBand((float) minTemp.applyAsDouble(value)), toTemp = tempBand((float) maxTemp.applyAsDouble(value));
+            int fromRain = rainBand((float) minRain.applyAsDouble(value)), toRain = rainBand((float) maxRain.applyAsDouble(value));
+            for (int temp = Math.max(0, fromTemp - 1); temp <= Math.min(TEMP_BANDS - 1, toTemp + 1); temp++)
+            {
+                for (int rain = Math.max(0, fromRain - 1); rain <= Math.min(RAIN_BANDS - 1, toRain + 1); rain++)
+                {
+                    bands[temp * RAIN_BANDS + rain].add(value);
+                }
+            }
+        }
+        for (int i = 0; i < bands.length; i++)
+        {
+            bands[i] = bands[i].isEmpty() ? Collections.emptyList() : Collections.unmodifiableList(new ArrayList<>(bands[i]));
+        }
+    }
+
+    /**
+     * @return the values which may be valid at this temperature and rainfall
+     */
+    @Nonnull
+    public List<T> get(float temp, float rain)
+    {
+        return bands[tempBand(temp) * RAIN_BANDS + rainBand(rain)];
+    }
+}
@@ -14,7 +14,7 @@ import net.dries007.tfc.world.classic.chunkdata.ChunkDataTFC;
 
 public final class ClimateTFC
 {
-    private static final ClimateCache CACHE = new ClimateCache();
+    private static final ClimateCache CACHE = new ClimateCache(16384);
 
     public static float getActualTemp(World world, BlockPos pos)
     {
@@ -38,7 +38,7 @@ public final class ClimateTFC
 
     public static float getActualTemp(BlockPos pos, long timeOffset)
     {
-        return ClimateHelper.actualTemp(CACHE.get(pos).getRegionalTemp(), pos.getY(), pos.getZ(), timeOffset);
+        return ClimateHelper.actualTemp(CACHE.getRegionalTemp(pos), pos.getY(), pos.getZ(), timeOffset);
     }
 
     public static float getDailyTemp(World world, BlockPos pos)
@@ -63,7 +63,7 @@ public final class ClimateTFC
 
     public static float getDailyTemp(BlockPos pos, long timeOffset)
     {
-        return ClimateHelper.dailyTemp(CACHE.get(pos).getRegionalTemp(), pos.getZ(), timeOffset);
+        return ClimateHelper.dailyTemp(CACHE.getRegionalTemp(pos), pos.getZ(), timeOffset);
     }
 
     public static float getMonthlyTemp(World world, BlockPos pos)
@@ -88,7 +88,7 @@ public final class ClimateTFC
 
     public static float getMonthlyTemp(BlockPos pos, long timeOffset)
     {
-        return ClimateHelper.monthlyTemp(CACHE.get(pos).getRegionalTemp(), pos.getZ(), timeOffset);
+        return ClimateHelper.monthlyTemp(CACHE.getRegionalTemp(pos), pos.getZ(), timeOffset);
     }
 
     public static float getAvgTemp(World world, BlockPos pos)
@@ -103,7 +103,7 @@ public final class ClimateTFC
 
     public static float getAvgTemp(BlockPos pos)
     {
-        return ClimateHelper.monthFactor(CACHE.get(pos).getRegionalTemp(), Month.AVERAGE_TEMPERATURE_MODIFIER, pos.getZ());
+        return ClimateHelper.monthFactor(CACHE.getRegionalTemp(pos), Month.AVERAGE_TEMPERATURE_MODIFIER, pos.getZ());
     }
 
     public static float getRainfall(World world, BlockPos pos)
@@ -113,7 +113,7 @@ public final class ClimateTFC
 
     public static float getRainfall(BlockPos pos)
     {
-        return CACHE.get(pos).getRainfall();
+        return CACHE.getRainfall(pos);
     }
 
     public static void update(ChunkPos pos, float temperature, float rainfall)
@@ -121,5 +121,15 @@ public final class ClimateTFC
         CACHE.update(pos, temperature, rainfall);
     }
 
+    public static void remove(ChunkPos pos)
+    {
+        CACHE.remove(pos);
+    }
+
+    public static ClimateCache getCache()
+    {
+        return CACHE;
+    }
+
     private ClimateTFC() {}
 }
@@ -0,0 +1,105 @@
+/*
+ * Work under Copyright. Licensed under the EUPL.
+ * See the project README.md and LICENSE.txt for more information.
+ */
+
+package net.dries007.tfc.util.climate;
+
+import java.util.Random;
+
+import net.minecraft.util.math.MathHelper;
+
+import net.dries007.tfc.ConfigTFC;
+import net.dries007.tfc.util.config.HemisphereType;
+import net.dries007.tfc.util.config.TemperatureMode;
+
+/**
+ * Precomputed values used by {@link ClimateHelper}, so the common temperature queries don't need to reseed a random or evaluate a sine.
+ * - Daily modifiers are kept in a rolling table indexed by day, which is filled lazily as days are queried.
+ * - Latitude factors are kept in a direct mapped table indexed by z.
+ * Entries are immutable and replaced as a whole, so both tables can be read from any thread. Every value is computed with the exact same formula as before, so results are identical.
+ */
+final class ClimateTables
+{
+    private static final int DAYS = 64; // Must be a power of two
+    private static final int LATITUDES = 4096; // Must be a power of two
+
+    private static final DailyEntry[] DAILY_MODIFIERS = new DailyEntry[DAYS];
+    private static final LatitudeEntry[] LATITUDE_FACTORS = new LatitudeEntry[LATITUDES];
+
+    /**
+     * Range: -1 - 1
+     * Note: this does not use world seed, as that is not synced from server - client, resulting in the seed being different
+     */
+    static float dailyModifier(long day)
+    {
+        int index = (int) (day & (DAYS - 1));
+        DailyEntry entry = DAILY_MODIFIERS[index];
+        if (entry == null || entry.day != day)
+        {
+            Random random = new Random(day);
+            entry = new DailyEntry(day, random.nextFloat() - random.nextFloat());
+            DAILY_MODIFIERS[index] = entry;
+        }
+        return entry.modifier;
+    }
+
+    /**
+     * Range 0 - 1
+     */
+    static float latitudeFactor(int z)
+    {
+        final int tempRange = ConfigTFC.General.WORLD.latitudeTemperatureModifier;
+        final TemperatureMode mode = ConfigTFC.General.WORLD.temperatureMode;
+        final HemisphereType hemisphere = ConfigTFC.General.WORLD.hemisphereType;
+        int index = z & (LATITUDES - 1);
+        LatitudeEntry entry = LATITUDE_FACTORS[index];
+        if (entry == null || entry.z != z || entry.tempRange != tempRange || entry.mode != mode || entry.hemisphere != hemisphere)
+        {
+            entry = new LatitudeEntry(z, tempRange, mode, hemisphere, computeLatitudeFactor(z, tempRange, mode, hemisphere));
+            LATITUDE_FACTORS[index] = entry;
+        }
+        return entry.factor;
+    }
+
+    private static float computeLatitudeFactor(int z, int tempRange, TemperatureMode mode, HemisphereType hemisphere)
+    {
+        if (mode != TemperatureMode.CYCLIC)
+        {
+            z = MathHelper.clamp(z, -tempRange / 2, tempRange / 2);
+        }
+        return 0.5f + 0.5f * hemisphere.getValue() * (float) Math.sin(Math.PI * z / tempRange);
+    }
+
+    private ClimateTables() {}
+
+    private static final class DailyEntry
+    {
+        private final long day;
+        private final float modifier;
+
+        private DailyEntry(long day, float modifier)
+        {
+            this.day = day;
+            this.modifier = modifier;
+        }
+    }
+
+    private static final class LatitudeEntry
+    {
+        private final int z;
+        private final int tempRange;
+        private final TemperatureMode mode;
+        private final HemisphereType hemisphere;
+        private final float factor;
+
+        private LatitudeEntry(int z, int tempRange, TemperatureMode mode, HemisphereType hemisphere, float factor)
+        {
+            this.z = z;
+            this.tempRange = tempRange;
+            this.mode = mode;
+            this.hemisphere = hemisphere;
+            this.factor = factor;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Work under Copyright. Licensed under the EUPL.
+ * See the project README.md and LICENSE.txt for more information.
+ */
+
+package net.dries007.tfc.util.collections;
+
+import java.util.Arrays;
+import java.util.function.ToIntFunction;
+import javax.annotation.Nullable;
+
+/**
+ * A lookup table from a type (i.e. {@link net.dries007.tfc.api.types.Rock}) and a variant (i.e. {@link net.dries007.tfc.api.types.Rock.Type}) to a value, backed by a flat array.
+ * Keys are looked up by an index which is fixed when the key is created (see {@link net.dries007.tfc.api.types.Rock#getIndex()}), so lookups are a single array access.
+ *
+ * Registry ids are not used as they can be remapped when a world is loaded.
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ */
+public final class VariantTable<K, V>
+{
+    private final ToIntFunction<K> indexFunction;
+    private final int variants;
+    private Object[] values = new Object[0];
+
+    public VariantTable(ToIntFunction<K> indexFunction)
+    {
+        this(indexFunction, 1);
+    }
+
+    public VariantTable(ToIntFunction<K> indexFunction, int variants)
+    {
+        this.indexFunction = indexFunction;
+        this.variants = variants;
+    }
+
+    @Nullable
+    public V get(K key)
+    {
+        return get(key, 0);
+    }
+
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public V get(K key, int variant)
+    {
+        int index = indexFunction.applyAsInt(key) * variants + variant;
+        return index < values.length ? (V) values[index] : null;
+    }
+
+    /**
+     * @return the previous value, or null if there was none
+     */
+    @Nullable
+    public V put(K key, V value)
+    {
+        return put(key, 0, value);
+    }
+
+    /**
+     * Only used during registration, so this is not thread safe.
+     *
+     * @return the previous value, or null if there was none
+     */
+    @Nullable
+    public V put(K key, int variant, V value)
+    {
+        int index = indexFunction.applyAsInt(key) * variants + variant;
+        if (index >= values.length)
+        {
+            values = Arrays.copyOf(values, Math.max(index + 1, values.length * 2));
+        }
+        V previous = get(key, variant);
+        values[index] = value;
+        return previous;
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Work under Copyright. Licensed under the EUPL.
+ * See the project README.md and LICENSE.txt for more information.
+ */
+
+package net.dries007.tfc.world.classic;
+
+import java.util.Random;
+
+import net.minecraft.world.biome.Biome;
+
+/**
+ * All per-chunk working state used by {@link ChunkGenTFC} while generating a single chunk.
+ * Each context is only ever touched by one thread at a time, which is what allows the terrain stages to run in parallel.
+ */
+final class ChunkGenContext
+{
+    final int chunkX, chunkZ;
+    final Random rand;
+    final CustomChunkPrimer primerIn, primerOut;
+
+    final double[] noise1 = new double[425];
+    final double[] noise2 = new double[425];
+    final double[] noise3 = new double[425];
+    final double[] noise4 = new double[256];
+    final double[] noise6 = new double[425];
+    final double[] heightMap = new double[425];
+    final Biome[] biomesForGeneration = new Biome[100];
+    final Biome[] biomes = new Biome[324];
+    final DataLayer[] stabilityLayer = new DataLayer[256];
+    final DataLayer[] drainageLayer = new DataLayer[256];
+    final int[] seaLevelOffsetMap = new int[256];
+    final int[] chunkHeightMap = new int[256];
+    final int[] rockLayer1 = new int[256];
+    final int[] rockLayer2 = new int[256];
+    final int[] rockLayer3 = new int[256];
+    float rainfall, averageTemp, regionalFactor, floraDensity, floraDiversity;
+
+    ChunkGenContext(int chunkX, int chunkZ, CustomChunkPrimer primerIn, CustomChunkPrimer primerOut)
+    {
+        this.chunkX = chunkX;
+        this.chunkZ = chunkZ;
+        this.primerIn = primerIn;
+        this.primerOut = primerOut;
+        this.rand = new Random(chunkX * 341873128712L + chunkZ * 132897987541L);
+    }
+
+    Biome getBiomeOffset(int x, int z)
+    {
+        return biomes[(z + 1) * 18 + (x + 1)]; // Gen layer output is x major, the same as BiomeProvider#getBiomes
+    }
+}
@@ -5,18 +5,20 @@
 
 package net.dries007.tfc.world.classic;
 
-import java.util.Arrays;
-import java.util.List;
-import java.util.Random;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
 import javax.annotation.Nullable;
 import javax.annotation.ParametersAreNonnullByDefault;
 
+import com.google.common.base.Suppliers;
 import net.minecraft.block.BlockFalling;
 import net.minecraft.block.BlockSnow;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.entity.EnumCreatureType;
 import net.minecraft.init.Blocks;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
 import net.minecraft.util.math.MathHelper;
 import net.minecraft.world.World;
 import net.minecraft.world.biome.Biome;
@@ -26,7 +28,6 @@ import net.minecraft.world.gen.IChunkGenerator;
 import net.minecraft.world.gen.MapGenBase;
 import net.minecraft.world.gen.NoiseGeneratorOctaves;
 import net.minecraft.world.gen.NoiseGeneratorPerlin;
-import net.minecraft.world.gen.layer.IntCache;
 import net.minecraftforge.event.ForgeEventFactory;
 import net.minecraftforge.event.terraingen.InitMapGenEvent;
 import net.minecraftforge.event.terraingen.TerrainGen;
@@ -47,6 +48,7 @@ import net.dries007.tfc.world.classic.biomes.BiomesTFC;
 import net.dries007.tfc.world.classic.chunkdata.ChunkDataProvider;
 import net.dries007.tfc.world.classic.chunkdata.ChunkDataTFC;
 import net.dries007.tfc.world.classic.genlayers.GenLayerTFC;
+import net.dries007.tfc.world.classic.genlayers.GenLayerTileCache;
 import net.dries007.tfc.world.classic.genlayers.datalayers.drainage.GenDrainageLayer;
 import net.dries007.tfc.world.classic.genlayers.datalayers.ph.GenPHLayer;
 import net.dries007.tfc.world.classic.genlayers.datalayers.rock.GenRockLayer;
@@ -95,6 +97,17 @@ public class ChunkGenTFC implements IChunkGenerator
     private static final IWorldGenerator LAVAFALL_GEN = new WorldGenFalls(Blocks.FLOWING_LAVA.getDefaultState(), 5);
     private static final IWorldGenerator SNOW_ICE_GEN = new WorldGenSnowIce();
 
+    /* Each pending chunk holds on to two primers, so this bounds the memory used by parallel terrain generation, regardless of the batch radius */
+    private static final int MAX_PENDING_TERRAIN = 64;
+    /* Released primers kept for reuse. Anything past this is left to the garbage collector */
+    private static final int MAX_POOLED_PRIMERS = 16;
+
+    /* Shared by all generators. Only created if parallel terrain generation is enabled */
+    private static final Supplier<ForkJoinPool> TERRAIN_POOL = Suppliers.memoize(() -> {
+        int threads = ConfigTFC.General.WORLD.parallelTerrainThreads;
+        return new ForkJoinPool(threads > 0 ? threads : Runtime.getRuntime().availableProcessors());
+    });
+
     static
     {
         for (int x = -2; x <= 2; ++x)
@@ -128,32 +141,21 @@ public class ChunkGenTFC implements IChunkGenerator
     private final GenLayerTFC stabilityGenLayer;
     private final GenLayerTFC phGenLayer;
     private final GenLayerTFC drainageGenLayer;
-    private final double[] noise1 = new double[425];
-    private final double[] noise2 = new double[425];
-    private final double[] noise3 = new double[425];
-    private final double[] noise4 = new double[256];
-    private final double[] noise5 = new double[425];
-    private final double[] noise6 = new double[425];
-    private final double[] heightMap = new double[425];
-    private final Biome[] biomes = new Biome[324];
-    private final DataLayer[] stabilityLayer = new DataLayer[256];
-    private final DataLayer[] drainageLayer = new DataLayer[256];
-    private final int[] seaLevelOffsetMap = new int[256];
-    private final int[] chunkHeightMap = new int[256];
+    private final GenLayerTileCache layerCache;
+    private final DataLayer[] stabilityLayer = new DataLayer[256]; // Shared with the cave generator, filled in when a chunk is built
 
     private final MapGenBase caveGen;
     private final MapGenBase surfaceRavineGen;
     private final MapGenBase ravineGen;
     private final MapGenBase riverRavineGen;
+    private final ChunkPrimerPool primerPool;
+    private final Map<Long, ChunkGenContext> pendingTerrain = new LinkedHashMap<>();
+    private final boolean parallelTerrain;
+    private final int parallelBatchRadius;
 
     private final int seaLevel = 32;
     private final int yOffset = 112;
     private final float rainfallSpread, floraDensitySpread, floraDiversitySpread;
-    private int[] rockLayer1 = new int[256];
-    private int[] rockLayer2 = new int[256];
-    private int[] rockLayer3 = new int[256];
-    private float rainfall;
-    private float averageTemp;
 
     public ChunkGenTFC(World w, String settingsString)
     {
@@ -182,6 +184,7 @@ public class ChunkGenTFC implements IChunkGenerator
         stabilityGenLayer = GenStabilityLayer.initialize(seed + 9);
         phGenLayer = GenPHLayer.initialize(seed + 10);
         drainageGenLayer = GenDrainageLayer.initialize(seed + 11);
+        layerCache = new GenLayerTileCache(rocksGenLayer1, rocksGenLayer2, rocksGenLayer3, stabilityGenLayer, drainageGenLayer, ConfigTFC.General.WORLD.layerCacheTiles);
 
         caveGen = TerrainGen.getModdedMapGen(new MapGenCavesTFC(stabilityLayer), InitMapGenEvent.EventType.CAVE);
         surfaceRavineGen = new MapGenRavineTFC(s.surfaceRavineRarity, s.surfaceRavineHeight, s.surfaceRavineVariability);
@@ -192,106 +195,57 @@ public class ChunkGenTFC implements IChunkGenerator
         rainfallSpread = (float) ConfigTFC.General.WORLD.rainfallSpreadFactor;
         floraDiversitySpread = (float) ConfigTFC.General.WORLD.floraDiversitySpreadFactor;
         floraDensitySpread = (float) ConfigTFC.General.WORLD.floraDensitySpreadFactor;
+        parallelTerrain = ConfigTFC.General.WORLD.parallelTerrainGeneration;
+        parallelBatchRadius = ConfigTFC.General.WORLD.parallelTerrainBatchRadius;
+        primerPool = new ChunkPrimerPool(parallelTerrain ? MAX_POOLED_PRIMERS : 2);
         world.setSeaLevel(WorldTypeTFC.SEALEVEL); // Set sea level so squids can spawn
         WorldEntitySpawnerTFC.init(); // Called here so only TFC Worlds are affected
     }
 
+    public GenLayerTileCache getLayerCache()
+    {
+        return layerCache;
+    }
+
     @Override
     public Chunk generateChunk(int chunkX, int chunkZ)
     {
-        Arrays.fill(noise1, 0);
-        Arrays.fill(noise2, 0);
-        Arrays.fill(noise3, 0);
-        Arrays.fill(noise4, 0);
-        Arrays.fill(noise5, 0);
-        Arrays.fill(noise6, 0);
-        Arrays.fill(seaLevelOffsetMap, 0);
-        Arrays.fill(chunkHeightMap, 0);
-        Arrays.fill(heightMap, 0);
-
-        rand.setSeed(chunkX * 341873128712L + chunkZ * 132897987541L);
-        ChunkPrimer chunkPrimerIn = new ChunkPrimer();
-        generateRoughTerrain(chunkX, chunkZ, chunkPrimerIn);
-
-        world.getBiomeProvider().getBiomes(biomes, chunkX * 16 - 1, chunkZ * 16 - 1, 18, 18);
-
-        loadLayerGeneratorData(stabilityGenLayer, stabilityLayer, chunkX * 16, chunkZ * 16, 16, 16);
-        loadLayerGeneratorData(drainageGenLayer, drainageLayer, chunkX * 16, chunkZ * 16, 16, 16);
-
-        rainfall = MathHelper.clamp(250f + 250f * rainfallSpread * (float) noiseGen7.getValue(chunkX * 0.005, chunkZ * 0.005), 0, 500);
-        float floraDiversity = MathHelper.clamp(0.5f + 0.5f * floraDiversitySpread * (float) noiseGen9.getValue(chunkX * 0.005, chunkZ * 0.005), 0, 1);
-        float floraDensity = MathHelper.clamp((0.3f + 0.2f * rainfall / 500f) + 0.4f * floraDensitySpread * (float) noiseGen8.getValue(chunkX * 0.05, chunkZ * 0.05), 0, 1);
-
-        rockLayer1 = rocksGenLayer1.getInts(chunkX * 16, chunkZ * 16, 16, 16).clone();
-        rockLayer2 = rocksGenLayer2.getInts(chunkX * 16, chunkZ * 16, 16, 16).clone();
-        rockLayer3 = rocksGenLayer3.getInts(chunkX * 16, chunkZ * 16, 16, 16).clone();
-
-        final float regionalFactor = 5f * 0.09f * (float) noiseGen10.getValue(chunkX * 0.05, chunkZ * 0.05); // Range -5 <> 5
-        averageTemp = ClimateHelper.monthFactor(regionalFactor, Month.AVERAGE_TEMPERATURE_MODIFIER, chunkZ << 4);
-
-        CustomChunkPrimer chunkPrimerOut = new CustomChunkPrimer();
-        replaceBlocksForBiomeHigh(chunkX, chunkZ, chunkPrimerIn, chunkPrimerOut);
-
-        if (caveGen instanceof MapGenCavesTFC)
+        ChunkGenContext ctx = null;
+        if (parallelTerrain)
         {
-            // Since this may be replaced by other mods (we give them the option, since 1.12 caves are bad)
-            ((MapGenCavesTFC) caveGen).setGenerationData(rainfall, rockLayer1.clone());
-        }
-        caveGen.generate(world, chunkX, chunkZ, chunkPrimerOut);
-        surfaceRavineGen.generate(world, chunkX, chunkZ, chunkPrimerOut);
-        ravineGen.generate(world, chunkX, chunkZ, chunkPrimerOut);
-        riverRavineGen.generate(world, chunkX, chunkZ, chunkPrimerOut);
-
-        if (ConfigTFC.General.DEBUG.debugWorldGen)
-        {
-            for (int x = 0; x < 16; ++x)
+            ctx = pendingTerrain.remove(ChunkPos.asLong(chunkX, chunkZ));
+            if (ctx == null)
             {
-                for (int z = 0; z < 16; ++z)
-                {
-                    chunkPrimerOut.setBlockState(x, 240, z, Blocks.STAINED_GLASS.getStateFromMeta(Biome.getIdForBiome(getBiomeOffset(x, z)) & 15));
-
-                    chunkPrimerOut.setBlockState(x, 242, z, Blocks.STAINED_GLASS.getStateFromMeta(rockLayer1[z << 4 | x] & 15));
-                    chunkPrimerOut.setBlockState(x, 244, z, Blocks.STAINED_GLASS.getStateFromMeta(rockLayer2[z << 4 | x] & 15));
-                    chunkPrimerOut.setBlockState(x, 246, z, Blocks.STAINED_GLASS.getStateFromMeta(rockLayer3[z << 4 | x] & 15));
-
-                    chunkPrimerOut.setBlockState(x, 252, z, Blocks.STAINED_GLASS.getStateFromMeta(stabilityLayer[x << 4 | z].layerID & 15));
-                    chunkPrimerOut.setBlockState(x, 254, z, Blocks.STAINED_GLASS.getStateFromMeta(drainageLayer[x << 4 | z].layerID & 15));
-
-                }
+                generateTerrainBatch(chunkX, chunkZ);
+                ctx = pendingTerrain.remove(ChunkPos.asLong(chunkX, chunkZ));
             }
         }
-
-        Chunk chunk = new Chunk(world, chunkPrimerOut, chunkX, chunkZ);
-
-        ChunkDataTFC chunkData = chunk.getCapability(ChunkDataProvider.CHUNK_DATA_CAPABILITY, null);
-        if (chunkData == null) throw new IllegalStateException("ChunkData capability is missing.");
-        chunkData.setGenerationData(rockLayer1, rockLayer2, rockLayer3, stabilityLayer, drainageLayer, seaLevelOffsetMap, rainfall, regionalFactor, averageTemp, floraDensity, floraDiversity);
-
-        byte[] biomeIds = chunk.getBiomeArray();
-        for (int x = 0; x < 16; ++x)
+        if (ctx == null)
         {
-            for (int z = 0; z < 16; ++z)
-            {
-                biomeIds[z << 4 | x] = (byte) Biome.getIdForBiome(getBiomeOffset(x, z));
-            }
+            ctx = createContext(chunkX, chunkZ);
+            generateTerrain(ctx);
+        }
+        try
+        {
+            return buildChunk(ctx);
+        }
+        finally
+        {
+            releaseContext(ctx);
         }
-
-        chunk.setHeightMap(chunkHeightMap);
-        chunk.generateSkylightMap();
-        return chunk;
     }
 
     @Override
     public void populate(int chunkX, int chunkZ)
     {
+        rand.setSeed(world.getSeed());
+        rand.setSeed((long) chunkX * (rand.nextLong() / 2L * 2L + 1L) + (long) chunkZ * (rand.nextLong() / 2L * 2L + 1L) ^ world.getSeed());
         ForgeEventFactory.onChunkPopulate(true, this, world, rand, chunkX, chunkZ, false);
         BlockFalling.fallInstantly = true;
         final int worldX = chunkX << 4;
         final int worldZ = chunkZ << 4;
         BlockPos blockpos = new BlockPos(worldX, 0, worldZ);
         final Biome biome = world.getBiome(blockpos.add(16, 0, 16));
-        rand.setSeed(world.getSeed());
-        rand.setSeed((long) chunkX * (rand.nextLong() / 2L * 2L + 1L) + (long) chunkZ * (rand.nextLong() / 2L * 2L + 1L) ^ world.getSeed());
 
         // First, do all terrain related features
         SOIL_PITS_GEN.generate(rand, chunkX, chunkZ, world, this, world.getChunkProvider());
@@ -361,22 +315,151 @@ public class ChunkGenTFC implements IChunkGenerator
         return false; //todo
     }
 
-    @SuppressWarnings("SameParameterValue")
-    private void loadLayerGeneratorData(GenLayerTFC gen, DataLayer[] layers, int x, int y, int width, int height)
+    /**
+     * Creates a new context and runs all the genlayer and climate lookups for it.
+     * This must happen on the calling (server) thread, as {@link GenLayerTFC}s and the IntCache they use are not thread safe
+     */
+    private ChunkGenContext createContext(int chunkX, int chunkZ)
+    {
+        ChunkGenContext ctx = new ChunkGenContext(chunkX, chunkZ, primerPool.acquire(), primerPool.acquire());
+
+        world.getBiomeProvider().getBiomesForGeneration(ctx.biomesForGeneration, chunkX * 4 - 2, chunkZ * 4 - 2, 10, 10);
+        world.getBiomeProvider().getBiomes(ctx.biomes, chunkX * 16 - 1, chunkZ * 16 - 1, 18, 18);
+
+        layerCache.getLayers(chunkX, chunkZ, ctx.rockLayer1, ctx.rockLayer2, ctx.rockLayer3, ctx.stabilityLayer, ctx.drainageLayer);
+
+        ctx.rainfall = MathHelper.clamp(250f + 250f * rainfallSpread * (float) noiseGen7.getValue(chunkX * 0.005, chunkZ * 0.005), 0, 500);
+        ctx.floraDiversity = MathHelper.clamp(0.5f + 0.5f * floraDiversitySpread * (float) noiseGen9.getValue(chunkX * 0.005, chunkZ * 0.005), 0, 1);
+        ctx.floraDensity = MathHelper.clamp((0.3f + 0.2f * ctx.rainfall / 500f) + 0.4f * floraDensitySpread * (float) noiseGen8.getValue(chunkX * 0.05, chunkZ * 0.05), 0, 1);
+
+        ctx.regionalFactor = 5f * 0.09f * (float) noiseGen10.getValue(chunkX * 0.05, chunkZ * 0.05); // Range -5 <> 5
+        ctx.averageTemp = ClimateHelper.monthFactor(ctx.regionalFactor, Month.AVERAGE_TEMPERATURE_MODIFIER, chunkZ << 4);
+        return ctx;
+    }
+
+    private void releaseContext(ChunkGenContext ctx)
+    {
+        primerPool.release(ctx.primerIn);
+        primerPool.release(ctx.primerOut);
+    }
+
+    /**
+     * The pure terrain stages. These only touch the context and immutable generator state, so they are safe to run off thread
+     */
+    private void generateTerrain(ChunkGenContext ctx)
     {
-        IntCache.resetIntCache();
-        int[] ints = gen.getInts(x, y, width, height);
-        for (int i = 0; i < width * height; ++i)
+        generateRoughTerrain(ctx);
+        replaceBlocksForBiomeHigh(ctx);
+    }
+
+    /**
+     * Prepares terrain for a square of chunks around the requested one, closest chunks first, up to {@link ChunkGenTFC#MAX_PENDING_TERRAIN} chunks.
+     * Lookups are done here on the server thread, then the terrain stages run on {@link ChunkGenTFC#TERRAIN_POOL}.
+     * Finished contexts are kept until the matching {@link ChunkGenTFC#generateChunk(int, int)} call commits them.
+     */
+    private void generateTerrainBatch(int centerX, int centerZ)
+    {
+        List<ChunkGenContext> batch = new ArrayList<>();
+        for (int ring = 0; ring <= parallelBatchRadius && batch.size() < MAX_PENDING_TERRAIN; ring++)
+        {
+            for (int x = centerX - ring; x <= centerX + ring && batch.size() < MAX_PENDING_TERRAIN; x++)
+            {
+                for (int z = centerZ - ring; z <= centerZ + ring && batch.size() < MAX_PENDING_TERRAIN; z++)
+                {
+                    if (Math.max(Math.abs(x - centerX), Math.abs(z - centerZ)) != ring)
+                    {
+                        continue; // Inner rings have already been added
+                    }
+                    boolean isCenter = ring == 0;
+                    if (isCenter || (!pendingTerrain.containsKey(ChunkPos.asLong(x, z)) && !world.getChunkProvider().isChunkGeneratedAt(x, z)))
+                    {
+                        batch.add(createContext(x, z));
+                    }
+                }
+            }
+        }
+
+        TERRAIN_POOL.get().submit(() -> batch.parallelStream().forEach(this::generateTerrain)).join();
+
+        for (ChunkGenContext ctx : batch)
+        {
+            pendingTerrain.put(ChunkPos.asLong(ctx.chunkX, ctx.chunkZ), ctx);
+        }
+
+        // Drop the oldest speculative results if the pre-generator went elsewhere
+        Iterator<ChunkGenContext> iterator = pendingTerrain.values().iterator();
+        while (pendingTerrain.size() > MAX_PENDING_TERRAIN && iterator.hasNext())
+        {
+            releaseContext(iterator.next());
+            iterator.remove();
+        }
+    }
+
+    /**
+     * Everything after the terrain stages: carvers, chunk construction and chunk data. This must run on the server thread
+     */
+    private Chunk buildChunk(ChunkGenContext ctx)
+    {
+        final int chunkX = ctx.chunkX, chunkZ = ctx.chunkZ;
+        final CustomChunkPrimer chunkPrimerOut = ctx.primerOut;
+        System.arraycopy(ctx.stabilityLayer, 0, stabilityLayer, 0, 256);
+
+        if (caveGen instanceof MapGenCavesTFC)
+        {
+            // Since this may be replaced by other mods (we give them the option, since 1.12 caves are bad)
+            ((MapGenCavesTFC) caveGen).setGenerationData(ctx.rainfall, ctx.rockLayer1.clone());
+        }
+        caveGen.generate(world, chunkX, chunkZ, chunkPrimerOut);
+        surfaceRavineGen.generate(world, chunkX, chunkZ, chunkPrimerOut);
+        ravineGen.generate(world, chunkX, chunkZ, chunkPrimerOut);
+        riverRavineGen.generate(world, chunkX, chunkZ, chunkPrimerOut);
+
+        if (ConfigTFC.General.DEBUG.debugWorldGen)
         {
-            layers[i] = DataLayer.get(ints[i]);
+            for (int x = 0; x < 16; ++x)
+            {
+                for (int z = 0; z < 16; ++z)
+                {
+                    chunkPrimerOut.setBlockState(x, 240, z, Blocks.STAINED_GLASS.getStateFromMeta(Biome.getIdForBiome(ctx.getBiomeOffset(x, z)) & 15));
+
+                    chunkPrimerOut.setBlockState(x, 242, z, Blocks.STAINED_GLASS.getStateFromMeta(ctx.rockLayer1[z << 4 | x] & 15));
+                    chunkPrimerOut.setBlockState(x, 244, z, Blocks.STAINED_GLASS.getStateFromMeta(ctx.rockLayer2[z << 4 | x] & 15));
+                    chunkPrimerOut.setBlockState(x, 246, z, Blocks.STAINED_GLASS.getStateFromMeta(ctx.rockLayer3[z << 4 | x] & 15));
+
+                    chunkPrimerOut.setBlockState(x, 252, z, Blocks.STAINED_GLASS.getStateFromMeta(ctx.stabilityLayer[x << 4 | z].layerID & 15));
+                    chunkPrimerOut.setBlockState(x, 254, z, Blocks.STAINED_GLASS.getStateFromMeta(ctx.drainageLayer[x << 4 | z].layerID & 15));
+
+                }
+            }
         }
+
+        Chunk chunk = new Chunk(world, chunkPrimerOut, chunkX, chunkZ);
+
+        ChunkDataTFC chunkData = chunk.getCapability(ChunkDataProvider.CHUNK_DATA_CAPABILITY, null);
+        if (chunkData == null) throw new IllegalStateException("ChunkData capability is missing.");
+        chunkData.setGenerationData(ctx.rockLayer1, ctx.rockLayer2, ctx.rockLayer3, ctx.stabilityLayer, ctx.drainageLayer, ctx.seaLevelOffsetMap, ctx.rainfall, ctx.regionalFactor, ctx.averageTemp, ctx.floraDensity, ctx.floraDiversity);
+
+        byte[] biomeIds = chunk.getBiomeArray();
+        for (int x = 0; x < 16; ++x)
+        {
+            for (int z = 0; z < 16; ++z)
+            {
+                biomeIds[z << 4 | x] = (byte) Biome.getIdForBiome(ctx.getBiomeOffset(x, z));
+            }
+        }
+
+        chunk.setHeightMap(ctx.chunkHeightMap);
+        chunk.generateSkylightMap();
+        return chunk;
     }
 
     @SuppressWarnings("PointlessArithmeticExpression")
-    private void generateRoughTerrain(int chunkX, int chunkZ, ChunkPrimer primer)
+    private void generateRoughTerrain(ChunkGenContext ctx)
     {
-        world.getBiomeProvider().getBiomesForGeneration(biomes, chunkX * 4 - 2, chunkZ * 4 - 2, 10, 10);
-        generateHeightMap(chunkX * 4, chunkZ * 4);
+        generateHeightMap(ctx, ctx.chunkX * 4, ctx.chunkZ * 4);
+
+        final double[] heightMap = ctx.heightMap;
+        final ChunkPrimer primer = ctx.primerIn;
 
         for (int x = 0; x < 4; ++x)
         {
@@ -426,8 +509,10 @@ public class ChunkGenTFC implements IChunkGenerator
         }
     }
 
-    private void generateHeightMap(int xPos, int zPos)
+    private void generateHeightMap(ChunkGenContext ctx, int xPos, int zPos)
     {
+        final double[] noise1 = ctx.noise1, noise2 = ctx.noise2, noise3 = ctx.noise3, noise6 = ctx.noise6, heightMap = ctx.heightMap;
+        final Biome[] biomes = ctx.biomesForGeneration;
         noiseGen6.generateNoiseOctaves(noise6, xPos, zPos, 5, 5, 200.0D, 200.0D, 0.5D);
         noiseGen3.generateNoiseOctaves(noise3, xPos, 0, zPos, 5, 17, 5, 12.5, 6.25, 12.5);
         noiseGen1.generateNoiseOctaves(noise1, xPos, 0, zPos, 5, 17, 5, 1000D, 1000D, 1000D);
@@ -522,13 +607,18 @@ public class ChunkGenTFC implements IChunkGenerator
         }
     }
 
-    private Biome getBiomeOffset(int x, int z)
+    private void replaceBlocksForBiomeHigh(ChunkGenContext ctx)
     {
-        return biomes[(z + 1) * 18 + (x + 1)]; //todo: check, was (z + 1) + (x + 1) * 18
-    }
+        final int chunkX = ctx.chunkX, chunkZ = ctx.chunkZ;
+        final ChunkPrimer inp = ctx.primerIn;
+        final CustomChunkPrimer outp = ctx.primerOut;
+        final Random rand = ctx.rand;
+        final double[] noise4 = ctx.noise4;
+        final int[] seaLevelOffsetMap = ctx.seaLevelOffsetMap, chunkHeightMap = ctx.chunkHeightMap;
+        final int[] rockLayer1 = ctx.rockLayer1, rockLayer2 = ctx.rockLayer2, rockLayer3 = ctx.rockLayer3;
+        final DataLayer[] drainageLayer = ctx.drainageLayer, stabilityLayer = ctx.stabilityLayer;
+        final float rainfall = ctx.rainfall;
 
-    private void replaceBlocksForBiomeHigh(int chunkX, int chunkZ, ChunkPrimer inp, CustomChunkPrimer outp)
-    {
         double var6 = 0.03125D;
         noiseGen4.generateNoiseOctaves(noise4, chunkX * 16, chunkZ * 16, 0, 16, 16, 1, var6 * 4.0D, var6, var6 * 4.0D);
         boolean[] cliffMap = new boolean[256];
@@ -537,7 +627,7 @@ public class ChunkGenTFC implements IChunkGenerator
             for (int z = 0; z < 16; ++z)
             {
                 int colIndex = z << 4 | x;
-                Biome biome = getBiomeOffset(x, z);
+                Biome biome = ctx.getBiomeOffset(x, z);
 
                 Rock rock1 = ((ForgeRegistry<Rock>) TFCRegistries.ROCKS).getValue(rockLayer1[colIndex]);
                 Rock rock2 = ((ForgeRegistry<Rock>) TFCRegistries.ROCKS).getValue(rockLayer2[colIndex]);
@@ -551,9 +641,9 @@ public class ChunkGenTFC implements IChunkGenerator
                 IBlockState surfaceBlock = BlockRockVariant.get(rock1, rainfall + 1.3 * rand.nextGaussian() >= 150f ? Rock.Type.GRASS : Rock.Type.DRY_GRASS).getDefaultState();
                 IBlockState subSurfaceBlock = BlockRockVariant.get(rock1, Rock.Type.DIRT).getDefaultState();
 
-                if (BiomesTFC.isBeachBiome(getBiomeOffset(x - 1, z)) || BiomesTFC.isBeachBiome(getBiomeOffset(x + 1, z)) || BiomesTFC.isBeachBiome(getBiomeOffset(x, z + 1)) || BiomesTFC.isBeachBiome(getBiomeOffset(x, z - 1)))
+                if (BiomesTFC.isBeachBiome(ctx.getBiomeOffset(x - 1, z)) || BiomesTFC.isBeachBiome(ctx.getBiomeOffset(x + 1, z)) || BiomesTFC.isBeachBiome(ctx.getBiomeOffset(x, z + 1)) || BiomesTFC.isBeachBiome(ctx.getBiomeOffset(x, z - 1)))
                 {
-                    if (!BiomesTFC.isBeachBiome(getBiomeOffset(x, z))) cliffMap[colIndex] = true;
+                    if (!BiomesTFC.isBeachBiome(ctx.getBiomeOffset(x, z))) cliffMap[colIndex] = true;
                 }
 
 
@@ -564,7 +654,7 @@ public class ChunkGenTFC implements IChunkGenerator
                 {
                     for (int b = z - 1; b <= z + 1; b++)
                     {
-                        Biome BiomeAtOffset = getBiomeOffset(a, b);
+                        Biome BiomeAtOffset = ctx.getBiomeOffset(a, b);
                         if (!BiomesTFC.isRiverBiome(BiomeAtOffset))
                         {
                             nonRiverTiles++;
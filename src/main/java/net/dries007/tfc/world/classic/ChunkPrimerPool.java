@@ -0,0 +1,42 @@
+/*
+ * Work under Copyright. Licensed under the EUPL.
+ * See the project README.md and LICENSE.txt for more information.
+ */
+
+package net.dries007.tfc.world.classic;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import javax.annotation.Nonnull;
+
+/**
+ * A small pool of {@link CustomChunkPrimer}s, owned by a chunk generator.
+ * Primers are only needed for the duration of {@link ChunkGenTFC#generateChunk(int, int)}, as the chunk constructor copies out of them
+ * Released primers are reset and handed out again, rather than allocating a new one per chunk.
+ */
+public class ChunkPrimerPool
+{
+    private final Deque<CustomChunkPrimer> primers = new ArrayDeque<>();
+    private final int maxSize;
+
+    public ChunkPrimerPool(int maxSize)
+    {
+        this.maxSize = maxSize;
+    }
+
+    @Nonnull
+    public synchronized CustomChunkPrimer acquire()
+    {
+        CustomChunkPrimer primer = primers.pollFirst();
+        return primer != null ? primer : new CustomChunkPrimer();
+    }
+
+    public synchronized void release(CustomChunkPrimer primer)
+    {
+        if (primers.size() < maxSize)
+        {
+            primer.reset();
+            primers.addFirst(primer);
+        }
+    }
+}
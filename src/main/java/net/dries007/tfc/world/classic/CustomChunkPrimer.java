@@ -5,29 +5,53 @@
 
 package net.dries007.tfc.world.classic;
 
+import java.util.Arrays;
 import javax.annotation.Nonnull;
 
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.init.Blocks;
 import net.minecraft.world.chunk.ChunkPrimer;
 
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+
+/**
+ * A palette backed chunk primer.
+ * This stores a small per chunk palette of states, and a palette index per position in the vanilla primer's char[] (made accessible by tfc_at.cfg), so it doesn't allocate any more than a vanilla primer.
+ * Index 0 is reserved to mean "never set", which is what {@link CustomChunkPrimer#isEmpty(int, int, int)} checks for.
+ * Looking up a state is an array access into the palette, rather than a lookup in the global block state id map.
+ *
+ * Instances are meant to be reused via {@link ChunkPrimerPool}, see {@link CustomChunkPrimer#reset()}
+ */
 public class CustomChunkPrimer extends ChunkPrimer
 {
     private static final IBlockState DEFAULT_STATE = Blocks.AIR.getDefaultState();
-    private final IBlockState[] data = new IBlockState[65536];
+
+    private final Reference2IntOpenHashMap<IBlockState> paletteIds = new Reference2IntOpenHashMap<>();
+    private IBlockState[] palette = new IBlockState[16];
+    private int paletteSize = 1; // index 0 = empty
+
+    // Most calls set the same state repeatedly, so avoid the map lookup when possible
+    private IBlockState lastState;
+    private int lastId;
+
+    public CustomChunkPrimer()
+    {
+        paletteIds.defaultReturnValue(0);
+    }
 
     @Override
     @Nonnull
     public IBlockState getBlockState(int x, int y, int z)
     {
-        IBlockState iblockstate = data[x << 12 | z << 8 | y];
+        IBlockState iblockstate = palette[getId(x << 12 | z << 8 | y)];
         return iblockstate == null ? DEFAULT_STATE : iblockstate;
     }
 
     @Override
     public void setBlockState(int x, int y, int z, @Nonnull IBlockState state)
     {
-        data[x << 12 | z << 8 | y] = state;
+        int id = getOrCreateId(state);
+        data[x << 12 | z << 8 | y] = (char) id;
     }
 
     @Override
@@ -37,7 +61,7 @@ public class CustomChunkPrimer extends ChunkPrimer
 
         for (int j = 255; j >= 0; --j)
         {
-            IBlockState iblockstate = data[i + j];
+            IBlockState iblockstate = palette[getId(i + j)];
             if (iblockstate != null && iblockstate != DEFAULT_STATE)
             {
                 return j;
@@ -48,6 +72,47 @@ public class CustomChunkPrimer extends ChunkPrimer
 
     public boolean isEmpty(int x, int y, int z)
     {
-        return data[x << 12 | z << 8 | y] == null;
+        return getId(x << 12 | z << 8 | y) == 0;
+    }
+
+    /**
+     * Clears this primer so it can be used for another chunk.
+     * The palette and index storage are kept, so this does not allocate.
+     */
+    public void reset()
+    {
+        Arrays.fill(data, (char) 0);
+        Arrays.fill(palette, 0, paletteSize, null);
+        paletteIds.clear();
+        paletteSize = 1;
+        lastState = null;
+        lastId = 0;
+    }
+
+    private int getId(int index)
+    {
+        return data[index];
+    }
+
+    private int getOrCreateId(IBlockState state)
+    {
+        if (state == lastState)
+        {
+            return lastId;
+        }
+        int id = paletteIds.getInt(state);
+        if (id == 0)
+        {
+            id = paletteSize++;
+            if (id >= palette.length)
+            {
+                palette = Arrays.copyOf(palette, palette.length * 2);
+            }
+            palette[id] = state;
+            paletteIds.put(state, id);
+        }
+        lastState = state;
+        lastId = id;
+        return id;
     }
 }
@@ -5,9 +5,8 @@
 
 package net.dries007.tfc.world.classic;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Random;
+import java.util.*;
+import javax.annotation.Nullable;
 
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityLiving;
@@ -15,6 +14,7 @@ import net.minecraft.entity.EnumCreatureType;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
 import net.minecraft.world.biome.Biome;
+import net.minecraftforge.fml.common.registry.EntityEntry;
 import net.minecraftforge.fml.common.registry.ForgeRegistries;
 
 import net.dries007.tfc.ConfigTFC;
@@ -29,6 +29,9 @@ import net.dries007.tfc.world.classic.chunkdata.ChunkDataTFC;
 @SuppressWarnings("WeakerAccess")
 public final class WorldEntitySpawnerTFC
 {
+    private static final Map<Class<? extends Entity>, ICreatureTFC.SpawnRule> SPAWN_RULES = new HashMap<>();
+    private static volatile List<SpawnEntry> spawnTable;
+
     public static void init()
     {
         EnumCreatureType.MONSTER.maxNumberOfCreature = ConfigTFC.General.DIFFICULTY.mobSpawnCount;
@@ -38,6 +41,15 @@ public final class WorldEntitySpawnerTFC
     }
 
 
+    /**
+     * Registers a spawn rule for a creature, so world gen spawning can check it without constructing the entity
+     * Must be called during pre init, before the entity registry is frozen
+     */
+    public static void registerSpawnRule(Class<? extends Entity> entityClass, ICreatureTFC.SpawnRule spawnRule)
+    {
+        SPAWN_RULES.put(entityClass, spawnRule);
+    }
+
     /**
      * **Modified version from vanilla's {@link net.minecraft.world.WorldEntitySpawner}
      * Called during chunk generation to spawn initial creatures.
@@ -58,71 +70,113 @@ public final class WorldEntitySpawnerTFC
         final float floraDiversity = ChunkDataTFC.getFloraDiversity(worldIn, chunkBlockPos);
 
         // Spawns only one group
-        ForgeRegistries.ENTITIES.getValuesCollection().stream()
-            .filter(x -> {
-                if (ICreatureTFC.class.isAssignableFrom(x.getEntityClass()))
-                {
-                    Entity ent = x.newInstance(worldIn);
-                    if (ent instanceof ICreatureTFC)
-                    {
-                        int weight = ((ICreatureTFC) ent).getSpawnWeight(biomeIn, temperature, rainfall, floraDensity, floraDiversity);
-                        return weight > 0 && randomIn.nextInt(weight) == 0;
-                    }
-                }
-                return false;
-            }).findFirst()
-            .ifPresent(entityEntry ->
+        for (SpawnEntry spawnEntry : getSpawnTable())
+        {
+            int weight;
+            if (spawnEntry.spawnRule != null)
+            {
+                weight = spawnEntry.spawnRule.getSpawnWeight(biomeIn, temperature, rainfall, floraDensity, floraDiversity);
+            }
+            else
+            {
+                // No registered rule, so this needs an instance to check
+                Entity ent = spawnEntry.entityEntry.newInstance(worldIn);
+                weight = ent instanceof ICreatureTFC ? ((ICreatureTFC) ent).getSpawnWeight(biomeIn, temperature, rainfall, floraDensity, floraDiversity) : 0;
+            }
+            if (weight > 0 && randomIn.nextInt(weight) == 0)
             {
-                List<EntityLiving> group = new ArrayList<>();
-                EntityLiving creature = (EntityLiving) entityEntry.newInstance(worldIn);
-                if (!(creature instanceof ICreatureTFC))
+                spawnGroup(spawnEntry.entityEntry, worldIn, centerX, centerZ, diameterX, diameterZ, randomIn);
+                return;
+            }
+        }
+    }
+
+    /**
+     * All creatures that can spawn on world gen, in entity registry order (which decides which creature is checked first)
+     * This is built on first use, as the entity registry is complete by then.
+     */
+    private static List<SpawnEntry> getSpawnTable()
+    {
+        List<SpawnEntry> table = spawnTable;
+        if (table == null)
+        {
+            table = new ArrayList<>();
+            for (EntityEntry entityEntry : ForgeRegistries.ENTITIES.getValuesCollection())
+            {
+                if (ICreatureTFC.class.isAssignableFrom(entityEntry.getEntityClass()))
                 {
-                    return; // Make sure to not crash
+                    table.add(new SpawnEntry(entityEntry, SPAWN_RULES.get(entityEntry.getEntityClass())));
                 }
-                ICreatureTFC creatureTFC = (ICreatureTFC) creature;
-                int fallback = 5; // Fallback measure if some mod completely deny this entity spawn
-                int individuals = Math.max(1, creatureTFC.getMinGroupSize()) + randomIn.nextInt(creatureTFC.getMaxGroupSize() - Math.max(0, creatureTFC.getMinGroupSize() - 1));
-                while (individuals > 0)
+            }
+            spawnTable = table;
+        }
+        return table;
+    }
+
+    private static void spawnGroup(EntityEntry entityEntry, World worldIn, int centerX, int centerZ, int diameterX, int diameterZ, Random randomIn)
+    {
+        List<EntityLiving> group = new ArrayList<>();
+        EntityLiving creature = (EntityLiving) entityEntry.newInstance(worldIn);
+        if (!(creature instanceof ICreatureTFC))
+        {
+            return; // Make sure to not crash
+        }
+        ICreatureTFC creatureTFC = (ICreatureTFC) creature;
+        int fallback = 5; // Fallback measure if some mod completely deny this entity spawn
+        int individuals = Math.max(1, creatureTFC.getMinGroupSize()) + randomIn.nextInt(creatureTFC.getMaxGroupSize() - Math.max(0, creatureTFC.getMinGroupSize() - 1));
+        while (individuals > 0)
+        {
+            int j = centerX + randomIn.nextInt(diameterX);
+            int k = centerZ + randomIn.nextInt(diameterZ);
+            BlockPos blockpos = worldIn.getTopSolidOrLiquidBlock(new BlockPos(j, 0, k));
+            creature.setLocationAndAngles((float) j + 0.5F, blockpos.getY(), (float) k + 0.5F, randomIn.nextFloat() * 360.0F, 0.0F);
+            if (creature.getCanSpawnHere()) // fix entities spawning inside walls
+            {
+                if (net.minecraftforge.event.ForgeEventFactory.canEntitySpawn(creature, worldIn, j + 0.5f, (float) blockpos.getY(), k + 0.5f, null) == net.minecraftforge.fml.common.eventhandler.Event.Result.DENY)
                 {
-                    int j = centerX + randomIn.nextInt(diameterX);
-                    int k = centerZ + randomIn.nextInt(diameterZ);
-                    BlockPos blockpos = worldIn.getTopSolidOrLiquidBlock(new BlockPos(j, 0, k));
-                    creature.setLocationAndAngles((float) j + 0.5F, blockpos.getY(), (float) k + 0.5F, randomIn.nextFloat() * 360.0F, 0.0F);
-                    if (creature.getCanSpawnHere()) // fix entities spawning inside walls
+                    if (--fallback > 0)
                     {
-                        if (net.minecraftforge.event.ForgeEventFactory.canEntitySpawn(creature, worldIn, j + 0.5f, (float) blockpos.getY(), k + 0.5f, null) == net.minecraftforge.fml.common.eventhandler.Event.Result.DENY)
-                        {
-                            if (--fallback > 0)
-                            {
-                                continue;
-                            }
-                            else
-                            {
-                                break; // Someone doesn't want me to spawn :(
-                            }
-                        }
-                        fallback = 5;
-                        // Spawn pass! let's continue
-                        worldIn.spawnEntity(creature);
-                        group.add(creature);
-                        creature.onInitialSpawn(worldIn.getDifficultyForLocation(new BlockPos(creature)), null);
-                        if (--individuals > 0)
-                        {
-                            //We still need to spawn more
-                            creature = (EntityLiving) entityEntry.newInstance(worldIn);
-                            creatureTFC = (ICreatureTFC) creature;
-                        }
+                        continue;
                     }
                     else
                     {
-                        if (--fallback <= 0) //Trying to spawn in water or inside walls too many times, let's break
-                        {
-                            break;
-                        }
+                        break; // Someone doesn't want me to spawn :(
                     }
                 }
-                // Apply the group spawning mechanics!
-                creatureTFC.getGroupingRules().accept(group, randomIn);
-            });
+                fallback = 5;
+                // Spawn pass! let's continue
+                worldIn.spawnEntity(creature);
+                group.add(creature);
+                creature.onInitialSpawn(worldIn.getDifficultyForLocation(new BlockPos(creature)), null);
+                if (--individuals > 0)
+                {
+                    //We still need to spawn more
+                    creature = (EntityLiving) entityEntry.newInstance(worldIn);
+                    creatureTFC = (ICreatureTFC) creature;
+                }
+            }
+            else
+            {
+                if (--fallback <= 0) //Trying to spawn in water or inside walls too many times, let's break
+                {
+                    break;
+                }
+            }
+        }
+        // Apply the group spawning mechanics!
+        creatureTFC.getGroupingRules().accept(group, randomIn);
+    }
+
+    private static final class SpawnEntry
+    {
+        private final EntityEntry entityEntry;
+        @Nullable
+        private final ICreatureTFC.SpawnRule spawnRule;
+
+        private SpawnEntry(EntityEntry entityEntry, @Nullable ICreatureTFC.SpawnRule spawnRule)
+        {
+            this.entityEntry = entityEntry;
+            this.spawnRule = spawnRule;
+        }
     }
 }
@@ -5,7 +5,7 @@
 
 package net.dries007.tfc.world.classic.biomes;
 
-import java.util.Random;
+import java.util.*;
 import javax.annotation.ParametersAreNonnullByDefault;
 
 import net.minecraft.util.math.BlockPos;
@@ -19,6 +19,7 @@ import net.minecraftforge.event.terraingen.TerrainGen;
 
 import net.dries007.tfc.api.registries.TFCRegistries;
 import net.dries007.tfc.api.types.Plant;
+import net.dries007.tfc.util.climate.ClimateIndex;
 import net.dries007.tfc.util.climate.ClimateTFC;
 import net.dries007.tfc.world.classic.chunkdata.ChunkDataTFC;
 import net.dries007.tfc.world.classic.worldgen.WorldGenPlantTFC;
@@ -28,6 +29,58 @@ import net.dries007.tfc.world.classic.worldgen.WorldGenWildCrops;
 @ParametersAreNonnullByDefault
 public class BiomeDecoratorTFC extends BiomeDecorator
 {
+    private static Map<DecorateBiomeEvent.Decorate.EventType, ClimateIndex<Plant>> plantIndex;
+
+    /**
+     * @return the plants generated by a decoration event which may be valid for a climate, in registry order
+     */
+    private static List<Plant> getPlants(DecorateBiomeEvent.Decorate.EventType eventType, float avgTemperature, float rainfall)
+    {
+        // Built on first use, once the plant registry is complete
+        if (plantIndex == null)
+        {
+            Map<DecorateBiomeEvent.Decorate.EventType, List<Plant>> plants = new HashMap<>();
+            for (Plant plant : TFCRegistries.PLANTS.getValuesCollection())
+            {
+                plants.computeIfAbsent(getEventType(plant.getPlantType()), key -> new ArrayList<>()).add(plant);
+            }
+            Map<DecorateBiomeEvent.Decorate.EventType, ClimateIndex<Plant>> index = new HashMap<>();
+            plants.forEach((key, values) -> index.put(key, new ClimateIndex<>(values, Plant::getMinWorldGenTemp, Plant::getMaxWorldGenTemp, Plant::getMinRain, Plant::getMaxRain)));
+            plantIndex = index;
+        }
+        ClimateIndex<Plant> index = plantIndex.get(eventType);
+        return index == null ? Collections.emptyList() : index.get(avgTemperature, rainfall);
+    }
+
+    private static DecorateBiomeEvent.Decorate.EventType getEventType(Plant.PlantType plantType)
+    {
+        switch (plantType)
+        {
+            case MUSHROOM:
+                return DecorateBiomeEvent.Decorate.EventType.SHROOM;
+            case CACTUS:
+                return DecorateBiomeEvent.Decorate.EventType.CACTUS;
+            case FLOATING:
+            case FLOATING_SEA:
+                return DecorateBiomeEvent.Decorate.EventType.LILYPAD;
+            case REED:
+            case TALL_REED:
+            case REED_SEA:
+            case TALL_REED_SEA:
+                return DecorateBiomeEvent.Decorate.EventType.REED;
+            case DESERT:
+            case DESERT_TALL_PLANT:
+            case DRY:
+            case DRY_TALL_PLANT:
+                return DecorateBiomeEvent.Decorate.EventType.DEAD_BUSH;
+            case SHORT_GRASS:
+            case TALL_GRASS:
+                return DecorateBiomeEvent.Decorate.EventType.GRASS;
+            default:
+                return DecorateBiomeEvent.Decorate.EventType.FLOWERS;
+        }
+    }
+
     private final int lilyPadPerChunk;
     private final int waterPlantsPerChunk;
     private final WorldGenWildCrops wildCropsGen;
@@ -155,9 +208,9 @@ public class BiomeDecoratorTFC extends BiomeDecorator
 
         if (TerrainGen.decorate(world, rng, forgeChunkPos, DecorateBiomeEvent.Decorate.EventType.SHROOM))
         {
-            for (Plant plant : TFCRegistries.PLANTS.getValuesCollection())
+            for (Plant plant : getPlants(DecorateBiomeEvent.Decorate.EventType.SHROOM, avgTemperature, rainfall))
             {
-                if (plant.getPlantType() == Plant.PlantType.MUSHROOM && plant.isValidTempForWorldGen(avgTemperature) && plant.isValidRain(rainfall))
+                if (plant.isValidTempForWorldGen(avgTemperature) && plant.isValidRain(rainfall))
                 {
                     plantGen.setGeneratedPlant(plant);
 
@@ -172,9 +225,9 @@ public class BiomeDecoratorTFC extends BiomeDecorator
 
         if (TerrainGen.decorate(world, rng, forgeChunkPos, DecorateBiomeEvent.Decorate.EventType.CACTUS))
         {
-            for (Plant plant : TFCRegistries.PLANTS.getValuesCollection())
+            for (Plant plant : getPlants(DecorateBiomeEvent.Decorate.EventType.CACTUS, avgTemperature, rainfall))
             {
-                if (plant.getPlantType() == Plant.PlantType.CACTUS && plant.isValidTempForWorldGen(avgTemperature) && plant.isValidRain(rainfall))
+                if (plant.isValidTempForWorldGen(avgTemperature) && plant.isValidRain(rainfall))
                 {
                     plantGen.setGeneratedPlant(plant);
 
@@ -190,7 +243,7 @@ public class BiomeDecoratorTFC extends BiomeDecorator
 
         if (TerrainGen.decorate(world, rng, forgeChunkPos, DecorateBiomeEvent.Decorate.EventType.LILYPAD))
         {
-            for (Plant plant : TFCRegistries.PLANTS.getValuesCollection())
+            for (Plant plant : getPlants(DecorateBiomeEvent.Decorate.EventType.LILYPAD, avgTemperature, rainfall))
             {
                 if (plant.isValidTempForWorldGen(avgTemperature) && plant.isValidRain(rainfall))
                 {
@@ -221,7 +274,7 @@ public class BiomeDecoratorTFC extends BiomeDecorator
 
         if (TerrainGen.decorate(world, rng, forgeChunkPos, DecorateBiomeEvent.Decorate.EventType.REED))
         {
-            for (Plant plant : TFCRegistries.PLANTS.getValuesCollection())
+            for (Plant plant : getPlants(DecorateBiomeEvent.Decorate.EventType.REED, avgTemperature, rainfall))
             {
                 if (plant.isValidTempForWorldGen(avgTemperature) && plant.isValidRain(rainfall))
                 {
@@ -254,7 +307,7 @@ public class BiomeDecoratorTFC extends BiomeDecorator
 
         if (TerrainGen.decorate(world, rng, forgeChunkPos, DecorateBiomeEvent.Decorate.EventType.FLOWERS))
         {
-            for (Plant plant : TFCRegistries.PLANTS.getValuesCollection())
+            for (Plant plant : getPlants(DecorateBiomeEvent.Decorate.EventType.FLOWERS, avgTemperature, rainfall))
             {
                 if (plant.isValidTempForWorldGen(avgTemperature) && plant.isValidRain(rainfall))
                 {
@@ -334,7 +387,7 @@ public class BiomeDecoratorTFC extends BiomeDecorator
 
         if (TerrainGen.decorate(world, rng, forgeChunkPos, DecorateBiomeEvent.Decorate.EventType.DEAD_BUSH))
         {
-            for (Plant plant : TFCRegistries.PLANTS.getValuesCollection())
+            for (Plant plant : getPlants(DecorateBiomeEvent.Decorate.EventType.DEAD_BUSH, avgTemperature, rainfall))
             {
                 if (plant.isValidTempForWorldGen(avgTemperature) && plant.isValidRain(rainfall))
                 {
@@ -367,7 +420,7 @@ public class BiomeDecoratorTFC extends BiomeDecorator
 
         if (TerrainGen.decorate(world, rng, forgeChunkPos, DecorateBiomeEvent.Decorate.EventType.GRASS))
         {
-            for (Plant plant : TFCRegistries.PLANTS.getValuesCollection())
+            for (Plant plant : getPlants(DecorateBiomeEvent.Decorate.EventType.GRASS, avgTemperature, rainfall))
             {
                 if (plant.isValidTempForWorldGen(avgTemperature) && plant.isValidRain(rainfall))
                 {
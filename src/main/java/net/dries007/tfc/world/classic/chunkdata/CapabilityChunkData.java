@@ -5,15 +5,24 @@
 
 package net.dries007.tfc.world.classic.chunkdata;
 
-import net.minecraft.nbt.NBTTagCompound;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.util.ResourceLocation;
 import net.minecraft.world.chunk.Chunk;
 import net.minecraftforge.common.capabilities.CapabilityManager;
 import net.minecraftforge.event.AttachCapabilitiesEvent;
+import net.minecraftforge.event.world.ChunkEvent;
 import net.minecraftforge.event.world.ChunkWatchEvent;
+import net.minecraftforge.fml.common.FMLCommonHandler;
 import net.minecraftforge.fml.common.Mod;
 import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.fml.common.gameevent.TickEvent;
 
+import net.dries007.tfc.ConfigTFC;
 import net.dries007.tfc.TerraFirmaCraft;
 import net.dries007.tfc.network.PacketChunkData;
 import net.dries007.tfc.util.climate.ClimateTFC;
@@ -25,6 +34,8 @@ public final class CapabilityChunkData
 {
     public static final ResourceLocation CHUNK_DATA = new ResourceLocation(MOD_ID, "chunkdata");
 
+    private static final Map<EntityPlayerMP, List<PacketChunkData>> PENDING_PACKETS = new HashMap<>();
+
     public static void preInit()
     {
         CapabilityManager.INSTANCE.register(ChunkDataTFC.class, new ChunkDataTFC.ChunkDataStorage(), ChunkDataTFC::new);
@@ -53,10 +64,77 @@ public final class CapabilityChunkData
                 // Update server side climate
                 ClimateTFC.update(chunk.getPos(), data.getRegionalTemp(), data.getRainfall());
 
-                // Update client side data
-                NBTTagCompound nbt = (NBTTagCompound) ChunkDataProvider.CHUNK_DATA_CAPABILITY.writeNBT(data, null);
-                TerraFirmaCraft.getNetwork().sendTo(new PacketChunkData(chunk.getPos(), nbt, data.getRegionalTemp(), data.getRainfall()), event.getPlayer());
+                // Update client side data. This is batched and sent at the end of the tick, as players watch many chunks at once when logging in or teleporting
+                List<PacketChunkData> packets = PENDING_PACKETS.computeIfAbsent(event.getPlayer(), player -> new ArrayList<>());
+                if (packets.isEmpty() || packets.get(packets.size() - 1).isFull())
+                {
+                    packets.add(new PacketChunkData());
+                }
+                packets.get(packets.size() - 1).add(chunk.getPos(), data);
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public static void onServerTick(TickEvent.ServerTickEvent event)
+    {
+        if (event.phase == TickEvent.Phase.END && !PENDING_PACKETS.isEmpty())
+        {
+            PENDING_PACKETS.forEach((player, packets) -> {
+                if (!player.hasDisconnected())
+                {
+                    packets.forEach(packet -> TerraFirmaCraft.getNetwork().sendTo(packet, player));
+                    if (ConfigTFC.General.DEBUG.enable)
+                    {
+                        int chunks = 0, bytes = 0;
+                        for (PacketChunkData packet : packets)
+                        {
+                            chunks += packet.getCount();
+                            bytes += packet.getEncodedSize();
+                        }
+                        TerraFirmaCraft.getLog().debug("Sent chunk data for {} chunks to {}: {} bytes in {} packets, {} bytes per chunk", chunks, player.getName(), bytes, packets.size(), bytes / Math.max(1, chunks));
+                    }
+                }
+            });
+            PENDING_PACKETS.clear();
+        }
+    }
+
+    @SubscribeEvent
+    public static void onChunkUnload(ChunkEvent.Unload event)
+    {
+        Chunk chunk = event.getChunk();
+        ChunkDataTFC data = chunk.getCapability(ChunkDataProvider.CHUNK_DATA_CAPABILITY, null);
+        if (event.getWorld().isRemote)
+        {
+            // A client connected to a remote server fills the climate cache from chunk data packets, so it evicts its own entries when they unload.
+            // In single player the cache is shared with the integrated server, which still needs them, and evicts them itself
+            if (data != null && FMLCommonHandler.instance().getMinecraftServerInstance() == null)
+            {
+                ClimateTFC.remove(chunk.getPos());
+            }
+        }
+        else if (data != null && data.isInitialized())
+        {
+            // Climate cache entries are only valid while the chunk is loaded, and are re-sent when it is watched again
+            // The cache is keyed only by chunk position, so only overworld chunks evict entries
+            if (event.getWorld().provider.getDimension() == 0)
+            {
+                ClimateTFC.remove(chunk.getPos());
             }
+            ChunkOreIndex.get(event.getWorld()).update(chunk.getPos(), data);
+        }
+    }
+
+    @SubscribeEvent
+    public static void onChunkLoad(ChunkEvent.Load event)
+    {
+        // Keeps the ore index up to date, and applies any work done by sluices while the chunk was unloaded
+        Chunk chunk = event.getChunk();
+        ChunkDataTFC data = chunk.getCapability(ChunkDataProvider.CHUNK_DATA_CAPABILITY, null);
+        if (!event.getWorld().isRemote && data != null && data.isInitialized())
+        {
+            ChunkOreIndex.get(event.getWorld()).onChunkLoad(chunk);
         }
     }
 }
@@ -5,6 +5,7 @@
 
 package net.dries007.tfc.world.classic.chunkdata;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
@@ -15,13 +16,18 @@ import javax.annotation.Nullable;
 
 import net.minecraft.nbt.*;
 import net.minecraft.util.EnumFacing;
+import net.minecraft.util.ResourceLocation;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
 import net.minecraft.world.chunk.Chunk;
 import net.minecraftforge.common.capabilities.Capability;
 import net.minecraftforge.common.util.Constants;
+import net.minecraftforge.fml.common.network.ByteBufUtils;
 import net.minecraftforge.registries.ForgeRegistry;
 
+import io.netty.buffer.ByteBuf;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
 import net.dries007.tfc.ConfigTFC;
 import net.dries007.tfc.api.registries.TFCRegistries;
 import net.dries007.tfc.api.types.Rock;
@@ -29,6 +35,7 @@ import net.dries007.tfc.api.types.Tree;
 import net.dries007.tfc.util.NBTBuilder;
 import net.dries007.tfc.util.calendar.CalendarTFC;
 import net.dries007.tfc.util.calendar.ICalendar;
+import net.dries007.tfc.util.climate.ClimateIndex;
 import net.dries007.tfc.world.classic.DataLayer;
 import net.dries007.tfc.world.classic.worldgen.vein.Vein;
 
@@ -41,12 +48,11 @@ public final class ChunkDataTFC
     public static final int FISH_POP_MAX = 60;
 
     private static final ChunkDataTFC EMPTY = new ChunkDataTFC();
+    private static ClimateIndex<Tree> treeIndex;
 
     static
     {
-        Arrays.fill(EMPTY.drainageLayer, DataLayer.ERROR);
-        Arrays.fill(EMPTY.stabilityLayer, DataLayer.ERROR);
-        Arrays.fill(EMPTY.seaLevelOffset, -1);
+        Arrays.fill(EMPTY.seaLevelOffset, (byte) -1);
     }
 
     @Nonnull
@@ -62,6 +68,16 @@ public final class ChunkDataTFC
         return data == null ? EMPTY : data;
     }
 
+    private static ClimateIndex<Tree> getTreeIndex()
+    {
+        // Built on first use, once the tree registry is complete
+        if (treeIndex == null)
+        {
+            treeIndex = new ClimateIndex<>(TFCRegistries.TREES.getValuesCollection(), Tree::getMinTemp, Tree::getMaxTemp, Tree::getMinRain, Tree::getMaxRain);
+        }
+        return treeIndex;
+    }
+
     public static Rock getRock1(World world, BlockPos pos)
     {
         return get(world, pos).getRockLayer1(pos.getX() & 15, pos.getZ() & 15);
@@ -117,12 +133,12 @@ public final class ChunkDataTFC
         return get(world, pos).getRockLayerHeight(pos.getX() & 15, pos.getY(), pos.getZ() & 15);
     }
 
-    private final int[] rockLayer1 = new int[256];
-    private final int[] rockLayer2 = new int[256];
-    private final int[] rockLayer3 = new int[256];
-    private final DataLayer[] drainageLayer = new DataLayer[256]; // To be removed / replaced?
-    private final DataLayer[] stabilityLayer = new DataLayer[256]; // To be removed / replaced?
-    private final int[] seaLevelOffset = new int[256];
+    // All per column data is stored as bytes. Rock layers (256 columns per layer) are indices into a small per chunk palette
+    private final byte[] rockLayers = new byte[3 * 256];
+    private Rock[] rockPalette = new Rock[0];
+    private final byte[] drainageLayer = new byte[256]; // To be removed / replaced?
+    private final byte[] stabilityLayer = new byte[256]; // To be removed / replaced?
+    private final byte[] seaLevelOffset = new byte[256]; // Fits in a signed byte: generated offsets are between 0 and 111 (the highest generated column, 255 - 112, minus the sea level of 32), or -1 for no data
     private boolean initialized = false;
     private int fishPopulation = FISH_POP_MAX; // todo: Set this based on biome? temp? rng?
     private float rainfall;
@@ -132,9 +148,16 @@ public final class ChunkDataTFC
     private float floraDiversity;
     private Set<Vein> generatedVeins = new HashSet<>();
     private int chunkWorkage;
+    private ChunkOreCounts oreCounts; // Null for chunks generated before ores were counted
+    private ChunkSupports supports; // Null until first needed, for chunks generated before supports were tracked
     private long protectedTicks; // Used for hostile spawn protection. Starts negative, increases by players in the area
     private long lastUpdateTick, lastUpdateYear; // The last time this chunk was updated by world regen
 
+    {
+        Arrays.fill(drainageLayer, (byte) DataLayer.ERROR.layerID);
+        Arrays.fill(stabilityLayer, (byte) DataLayer.ERROR.layerID);
+    }
+
     /**
      * INTERNAL USE ONLY.
      * No need to mark as dirty, since this will only ever be called on worldgen, before the first chunk save.
@@ -142,12 +165,13 @@ public final class ChunkDataTFC
     public void setGenerationData(int[] rockLayer1, int[] rockLayer2, int[] rockLayer3, DataLayer[] stabilityLayer, DataLayer[] drainageLayer, int[] seaLevelOffset, float rainfall, float regionalTemp, float avgTemp, float floraDensity, float floraDiversity)
     {
         this.initialized = true;
-        System.arraycopy(rockLayer1, 0, this.rockLayer1, 0, 256);
-        System.arraycopy(rockLayer2, 0, this.rockLayer2, 0, 256);
-        System.arraycopy(rockLayer3, 0, this.rockLayer3, 0, 256);
-        System.arraycopy(stabilityLayer, 0, this.stabilityLayer, 0, 256);
-        System.arraycopy(drainageLayer, 0, this.drainageLayer, 0, 256);
-        System.arraycopy(seaLevelOffset, 0, this.seaLevelOffset, 0, 256);
+        setRockLayers(rockLayer1, rockLayer2, rockLayer3);
+        for (int i = 0; i < 256; i++)
+        {
+            this.stabilityLayer[i] = (byte) stabilityLayer[i].layerID;
+            this.drainageLayer[i] = (byte) drainageLayer[i].layerID;
+            this.seaLevelOffset[i] = (byte) seaLevelOffset[i];
+        }
 
         this.rainfall = rainfall;
         this.regionalTemp = regionalTemp;
@@ -156,6 +180,8 @@ public final class ChunkDataTFC
         this.floraDiversity = floraDiversity;
 
         this.chunkWorkage = 0;
+        this.oreCounts = new ChunkOreCounts();
+        this.supports = new ChunkSupports();
 
         this.lastUpdateTick = CalendarTFC.PLAYER_TIME.getTicks();
         this.lastUpdateYear = CalendarTFC.CALENDAR_TIME.getTotalYears();
@@ -180,11 +206,24 @@ public final class ChunkDataTFC
         return generatedVeins;
     }
 
-    public boolean canWork(int amount)
+    /**
+     * Used for chunks that aren't loaded, see {@link ChunkOreIndex}
+     */
+    public static boolean canWork(int chunkWorkage, int amount)
     {
         return ConfigTFC.Devices.SLUICE.maxWorkChunk == 0 || chunkWorkage <= ConfigTFC.Devices.SLUICE.maxWorkChunk + amount;
     }
 
+    public boolean canWork(int amount)
+    {
+        return canWork(chunkWorkage, amount);
+    }
+
+    public int getChunkWorkage()
+    {
+        return chunkWorkage;
+    }
+
     public void addWork(int amount)
     {
         chunkWorkage += amount;
@@ -195,6 +234,29 @@ public final class ChunkDataTFC
         addWork(1);
     }
 
+    /**
+     * @return the ore blocks in each section of this chunk, or null if this chunk was generated before they were counted
+     */
+    @Nullable
+    public ChunkOreCounts getOreCounts()
+    {
+        return oreCounts;
+    }
+
+    /**
+     * @return the supports in this chunk, or null if they haven't been searched for yet. Use {@link ChunkSupports#get(Chunk)} instead
+     */
+    @Nullable
+    public ChunkSupports getSupports()
+    {
+        return supports;
+    }
+
+    void setSupports(ChunkSupports supports)
+    {
+        this.supports = supports;
+    }
+
     public boolean isInitialized()
     {
         return initialized;
@@ -331,7 +393,7 @@ public final class ChunkDataTFC
 
     public List<Tree> getValidTrees()
     {
-        return TFCRegistries.TREES.getValuesCollection().stream()
+        return getTreeIndex().get(avgTemp, rainfall).stream()
             .filter(t -> t.isValidLocation(avgTemp, rainfall, floraDensity))
             .sorted((s, t) -> (int) (t.getDominance() - s.getDominance()))
             .collect(Collectors.toList());
@@ -340,8 +402,9 @@ public final class ChunkDataTFC
     @Nullable
     public Tree getSparseGenTree()
     {
-        return TFCRegistries.TREES.getValuesCollection().stream()
-            .filter(t -> t.isValidLocation(0.5f * avgTemp + 10f, 0.5f * rainfall + 120f, 0.5f))
+        final float temp = 0.5f * avgTemp + 10f, rain = 0.5f * rainfall + 120f;
+        return getTreeIndex().get(temp, rain).stream()
+            .filter(t -> t.isValidLocation(temp, rain, 0.5f))
             .min((s, t) -> (int) (t.getDominance() - s.getDominance()))
             .orElse(null);
     }
@@ -349,27 +412,27 @@ public final class ChunkDataTFC
     // Directly accessing the DataLayer is discouraged (except for getting the name). It's easy to use the wrong value.
     public Rock getRockLayer1(int x, int z)
     {
-        return ((ForgeRegistry<Rock>) TFCRegistries.ROCKS).getValue(rockLayer1[z << 4 | x]);
+        return getRockLayer(0, x, z);
     }
 
     public Rock getRockLayer2(int x, int z)
     {
-        return ((ForgeRegistry<Rock>) TFCRegistries.ROCKS).getValue(rockLayer2[z << 4 | x]);
+        return getRockLayer(1, x, z);
     }
 
     public Rock getRockLayer3(int x, int z)
     {
-        return ((ForgeRegistry<Rock>) TFCRegistries.ROCKS).getValue(rockLayer3[z << 4 | x]);
+        return getRockLayer(2, x, z);
     }
 
     public DataLayer getStabilityLayer(int x, int z)
     {
-        return stabilityLayer[z << 4 | x];
+        return getDataLayer(stabilityLayer[z << 4 | x]);
     }
 
     public DataLayer getDrainageLayer(int x, int z)
     {
-        return drainageLayer[z << 4 | x];
+        return getDataLayer(drainageLayer[z << 4 | x]);
     }
 
     public Rock getRockLayerHeight(int x, int y, int z)
@@ -380,13 +443,118 @@ public final class ChunkDataTFC
         return getRockLayer1(x, z);
     }
 
+    private Rock getRockLayer(int layer, int x, int z)
+    {
+        int index = rockLayers[layer << 8 | z << 4 | x] & 0xFF;
+        if (index < rockPalette.length)
+        {
+            return rockPalette[index];
+        }
+        // No data (i.e. not initialized), previously this was rock id 0
+        return ((ForgeRegistry<Rock>) TFCRegistries.ROCKS).getValue(0);
+    }
+
+    private DataLayer getDataLayer(byte id)
+    {
+        return id == DataLayer.ERROR.layerID ? DataLayer.ERROR : DataLayer.get(id);
+    }
+
+    /**
+     * Builds the rock palette from rock registry ids. This is the only place where ids are looked up, rather than once per access.
+     */
+    private void setRockLayers(int[]... layers)
+    {
+        ForgeRegistry<Rock> registry = (ForgeRegistry<Rock>) TFCRegistries.ROCKS;
+        List<Rock> palette = new ArrayList<>();
+        IntList paletteIds = new IntArrayList();
+        for (int layer = 0; layer < layers.length; layer++)
+        {
+            for (int i = 0; i < 256; i++)
+            {
+                int id = layers[layer][i];
+                int index = paletteIds.indexOf(id);
+                if (index == -1)
+                {
+                    index = palette.size();
+                    paletteIds.add(id);
+                    palette.add(registry.getValue(id));
+                }
+                rockLayers[layer << 8 | i] = (byte) index;
+            }
+        }
+        if (palette.size() > 256)
+        {
+            throw new IllegalStateException("Too many rock types in a single chunk: " + palette.size());
+        }
+        rockPalette = palette.toArray(new Rock[0]);
+    }
+
+    /**
+     * Writes everything the client uses to a packet buffer, see {@link net.dries007.tfc.network.PacketChunkData}
+     * Generated veins and sluice workage are server only, and are not sent.
+     */
+    public void writeClientData(ByteBuf buf)
+    {
+        ForgeRegistry<Rock> registry = (ForgeRegistry<Rock>) TFCRegistries.ROCKS;
+        int[] rockIds = new int[rockPalette.length];
+        for (int i = 0; i < rockPalette.length; i++)
+        {
+            // Legacy saves can have missing or unknown rock names, which are sent as -1 and read back as null
+            rockIds[i] = rockPalette[i] == null ? -1 : registry.getID(rockPalette[i]);
+        }
+        PaletteEncoding.writeIndexed(buf, rockIds, rockLayers);
+        PaletteEncoding.writeDeltas(buf, seaLevelOffset);
+        PaletteEncoding.writePalette(buf, stabilityLayer);
+        PaletteEncoding.writePalette(buf, drainageLayer);
+
+        ByteBufUtils.writeVarInt(buf, fishPopulation, 5);
+        buf.writeFloat(rainfall);
+        buf.writeFloat(regionalTemp);
+        buf.writeFloat(avgTemp);
+        buf.writeFloat(floraDensity);
+        buf.writeFloat(floraDiversity);
+        buf.writeLong(protectedTicks);
+    }
+
+    public void readClientData(ByteBuf buf)
+    {
+        ForgeRegistry<Rock> registry = (ForgeRegistry<Rock>) TFCRegistries.ROCKS;
+        int[] rockIds = PaletteEncoding.readIndexed(buf, rockLayers);
+        rockPalette = new Rock[rockIds.length];
+        for (int i = 0; i < rockIds.length; i++)
+        {
+            rockPalette[i] = rockIds[i] < 0 ? null : registry.getValue(rockIds[i]);
+        }
+        PaletteEncoding.readDeltas(buf, seaLevelOffset);
+        PaletteEncoding.readPalette(buf, stabilityLayer);
+        PaletteEncoding.readPalette(buf, drainageLayer);
+
+        fishPopulation = ByteBufUtils.readVarInt(buf, 5);
+        rainfall = buf.readFloat();
+        regionalTemp = buf.readFloat();
+        avgTemp = buf.readFloat();
+        floraDensity = buf.readFloat();
+        floraDiversity = buf.readFloat();
+        protectedTicks = buf.readLong();
+
+        initialized = true;
+    }
+
     public static final class ChunkDataStorage implements Capability.IStorage<ChunkDataTFC>
     {
+        /**
+         * @deprecated Chunk data no longer stores data layers as {@link DataLayer} arrays, and this is not used. Kept for addons
+         */
+        @Deprecated
         public static NBTTagByteArray write(DataLayer[] layers)
         {
             return new NBTTagByteArray(Arrays.stream(layers).map(x -> (byte) x.layerID).collect(Collectors.toList()));
         }
 
+        /**
+         * @deprecated Chunk data no longer stores data layers as {@link DataLayer} arrays, and this is not used. Kept for addons
+         */
+        @Deprecated
         public static void read(DataLayer[] layers, byte[] bytes)
         {
             for (int i = bytes.length - 1; i >= 0; i--)
@@ -395,6 +563,12 @@ public final class ChunkDataTFC
             }
         }
 
+        /**
+         * Version 0 (no version tag) stored rock layers and sea level offsets as int arrays, with rocks as registry ids
+         * Version 1 stores a palette of rock names, and byte arrays for everything else
+         */
+        private static final int VERSION = 1;
+
         @Nullable
         @Override
         public NBTBase writeNBT(Capability<ChunkDataTFC> capability, ChunkDataTFC instance, EnumFacing side)
@@ -405,14 +579,20 @@ public final class ChunkDataTFC
             }
             NBTTagCompound root = new NBTTagCompound();
             root.setBoolean("valid", true);
+            root.setInteger("version", VERSION);
 
-            root.setTag("rockLayer1", new NBTTagIntArray(instance.rockLayer1));
-            root.setTag("rockLayer2", new NBTTagIntArray(instance.rockLayer2));
-            root.setTag("rockLayer3", new NBTTagIntArray(instance.rockLayer3));
-            root.setTag("seaLevelOffset", new NBTTagIntArray(instance.seaLevelOffset));
+            NBTTagList rockPalette = new NBTTagList();
+            for (Rock rock : instance.rockPalette)
+            {
+                //noinspection ConstantConditions
+                rockPalette.appendTag(new NBTTagString(rock == null ? "" : rock.getRegistryName().toString()));
+            }
+            root.setTag("rockPalette", rockPalette);
+            root.setByteArray("rockLayers", instance.rockLayers.clone());
+            root.setByteArray("seaLevelOffset", instance.seaLevelOffset.clone());
 
-            root.setTag("stabilityLayer", write(instance.stabilityLayer));
-            root.setTag("drainageLayer", write(instance.drainageLayer));
+            root.setByteArray("stabilityLayer", instance.stabilityLayer.clone());
+            root.setByteArray("drainageLayer", instance.drainageLayer.clone());
 
             root.setInteger("fishPopulation", instance.fishPopulation);
 
@@ -423,6 +603,14 @@ public final class ChunkDataTFC
             root.setFloat("floraDiversity", instance.floraDiversity);
 
             root.setInteger("chunkWorkage", instance.chunkWorkage);
+            if (instance.oreCounts != null)
+            {
+                root.setTag("oreCounts", instance.oreCounts.serializeNBT());
+            }
+            if (instance.supports != null)
+            {
+                root.setIntArray("supports", instance.supports.serialize());
+            }
             root.setLong("protectedTicks", instance.protectedTicks);
             root.setLong("lastUpdateTick", instance.lastUpdateTick);
             root.setLong("lastUpdateYear", instance.lastUpdateYear);
@@ -443,13 +631,31 @@ public final class ChunkDataTFC
             NBTTagCompound root = (NBTTagCompound) nbt;
             if (nbt != null && root.getBoolean("valid"))
             {
-                System.arraycopy(root.getIntArray("rockLayer1"), 0, instance.rockLayer1, 0, 256);
-                System.arraycopy(root.getIntArray("rockLayer2"), 0, instance.rockLayer2, 0, 256);
-                System.arraycopy(root.getIntArray("rockLayer3"), 0, instance.rockLayer3, 0, 256);
-                System.arraycopy(root.getIntArray("seaLevelOffset"), 0, instance.seaLevelOffset, 0, 256);
+                if (root.getInteger("version") >= 1)
+                {
+                    NBTTagList rockPalette = root.getTagList("rockPalette", Constants.NBT.TAG_STRING);
+                    instance.rockPalette = new Rock[rockPalette.tagCount()];
+                    for (int i = 0; i < rockPalette.tagCount(); i++)
+                    {
+                        String name = rockPalette.getStringTagAt(i);
+                        instance.rockPalette[i] = name.isEmpty() ? null : TFCRegistries.ROCKS.getValue(new ResourceLocation(name));
+                    }
+                    System.arraycopy(root.getByteArray("rockLayers"), 0, instance.rockLayers, 0, 3 * 256);
+                    System.arraycopy(root.getByteArray("seaLevelOffset"), 0, instance.seaLevelOffset, 0, 256);
+                }
+                else
+                {
+                    // Legacy format
+                    instance.setRockLayers(root.getIntArray("rockLayer1"), root.getIntArray("rockLayer2"), root.getIntArray("rockLayer3"));
+                    int[] seaLevelOffset = root.getIntArray("seaLevelOffset");
+                    for (int i = 0; i < 256; i++)
+                    {
+                        instance.seaLevelOffset[i] = (byte) seaLevelOffset[i];
+                    }
+                }
 
-                read(instance.stabilityLayer, root.getByteArray("stabilityLayer"));
-                read(instance.drainageLayer, root.getByteArray("drainageLayer"));
+                System.arraycopy(root.getByteArray("stabilityLayer"), 0, instance.stabilityLayer, 0, 256);
+                System.arraycopy(root.getByteArray("drainageLayer"), 0, instance.drainageLayer, 0, 256);
 
                 instance.fishPopulation = root.getInteger("fishPopulation");
 
@@ -460,6 +666,16 @@ public final class ChunkDataTFC
                 instance.floraDiversity = root.getFloat("floraDiversity");
 
                 instance.chunkWorkage = root.getInteger("chunkWorkage");
+                if (root.hasKey("oreCounts"))
+                {
+                    instance.oreCounts = new ChunkOreCounts();
+                    instance.oreCounts.deserializeNBT(root.getCompoundTag("oreCounts"));
+                }
+                if (root.hasKey("supports"))
+                {
+                    instance.supports = new ChunkSupports();
+                    instance.supports.deserialize(root.getIntArray("supports"));
+                }
                 instance.protectedTicks = root.getLong("protectedTicks");
                 instance.lastUpdateTick = root.getLong("lastUpdateTick");
                 instance.lastUpdateYear = root.getLong("lastUpdateYear");
@@ -0,0 +1,101 @@
+/*
+ * Work under Copyright. Licensed under the EUPL.
+ * See the project README.md and LICENSE.txt for more information.
+ */
+
+package net.dries007.tfc.world.classic.chunkdata;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import net.minecraft.block.Block;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.util.ResourceLocation;
+import net.minecraftforge.fml.common.registry.ForgeRegistries;
+
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntMaps;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+
+/**
+ * The number of each ore block in every 16x16x16 section of a chunk. Used by the prospector's pick, so it doesn't need to check every block around it.
+ * Counts are updated by the ore blocks themselves when they are added or removed, see {@link net.dries007.tfc.objects.blocks.stone.BlockOreTFC}
+ */
+public final class ChunkOreCounts
+{
+    @SuppressWarnings("unchecked")
+    private final Object2IntMap<Block>[] sections = new Object2IntMap[16];
+
+    public void add(Block block, int y, int amount)
+    {
+        if (y < 0 || y > 255)
+        {
+            return;
+        }
+        Object2IntMap<Block> section = sections[y >> 4];
+        if (section == null)
+        {
+            section = sections[y >> 4] = new Object2IntOpenHashMap<>();
+        }
+        int count = section.getInt(block) + amount;
+        if (count > 0)
+        {
+            section.put(block, count);
+        }
+        else
+        {
+            section.removeInt(block);
+        }
+    }
+
+    /**
+     * @return the number of each ore block in a section
+     */
+    @Nonnull
+    public Object2IntMap<Block> getSection(int sectionY)
+    {
+        Object2IntMap<Block> section = sections[sectionY];
+        return section == null ? Object2IntMaps.emptyMap() : Object2IntMaps.unmodifiable(section);
+    }
+
+    @Nonnull
+    public NBTTagCompound serializeNBT()
+    {
+        NBTTagCompound nbt = new NBTTagCompound();
+        for (int i = 0; i < sections.length; i++)
+        {
+            if (sections[i] != null && !sections[i].isEmpty())
+            {
+                NBTTagCompound sectionNbt = new NBTTagCompound();
+                for (Object2IntMap.Entry<Block> entry : sections[i].object2IntEntrySet())
+                {
+                    //noinspection ConstantConditions
+                    sectionNbt.setInteger(entry.getKey().getRegistryName().toString(), entry.getIntValue());
+                }
+                nbt.setTag(Integer.toString(i), sectionNbt);
+            }
+        }
+        return nbt;
+    }
+
+    public void deserializeNBT(@Nullable NBTTagCompound nbt)
+    {
+        for (int i = 0; i < sections.length; i++)
+        {
+            sections[i] = null;
+            if (nbt != null && nbt.hasKey(Integer.toString(i)))
+            {
+                NBTTagCompound sectionNbt = nbt.getCompoundTag(Integer.toString(i));
+                for (String name : sectionNbt.getKeySet())
+                {
+                    ResourceLocation key = new ResourceLocation(name);
+                    Block block = ForgeRegistries.BLOCKS.getValue(key);
+                    if (block != null && ForgeRegistries.BLOCKS.containsKey(key))
+                    {
+                        add(block, i << 4, sectionNbt.getInteger(name));
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,252 @@
+/*
+ * Work under Copyright. Licensed under the EUPL.
+ * See the project README.md and LICENSE.txt for more information.
+ */
+
+package net.dries007.tfc.world.classic.chunkdata;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagList;
+import net.minecraft.nbt.NBTTagString;
+import net.minecraft.util.ResourceLocation;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.storage.MapStorage;
+import net.minecraft.world.storage.WorldSavedData;
+import net.minecraftforge.common.util.Constants;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.dries007.tfc.api.registries.TFCRegistries;
+import net.dries007.tfc.api.types.Ore;
+import net.dries007.tfc.world.classic.worldgen.vein.Vein;
+
+import static net.dries007.tfc.TerraFirmaCraft.MOD_ID;
+
+/**
+ * Per dimension index of which chunks have ore veins, and how much they have been worked (i.e. by sluices).
+ * This lets sluices pick a chunk to work without loading every chunk in their radius.
+ *
+ * Entries are taken from {@link ChunkDataTFC} when a chunk is generated, loaded or unloaded. Loaded chunks are always checked against their chunk data.
+ * Work done in unloaded chunks is kept here, and added to the chunk data when the chunk is next loaded.
+ */
+@ParametersAreNonnullByDefault
+public class ChunkOreIndex extends WorldSavedData
+{
+    private static final String NAME = MOD_ID + ":chunk_ores";
+
+    @Nonnull
+    public static ChunkOreIndex get(World world)
+    {
+        MapStorage mapStorage = world.getPerWorldStorage();
+        ChunkOreIndex data = (ChunkOreIndex) mapStorage.getOrLoadData(ChunkOreIndex.class, NAME);
+        if (data == null)
+        {
+            data = new ChunkOreIndex();
+            mapStorage.setData(NAME, data);
+        }
+        return data;
+    }
+
+    private final Long2ObjectMap<Entry> entries = new Long2ObjectOpenHashMap<>();
+
+    @SuppressWarnings("WeakerAccess")
+    public ChunkOreIndex()
+    {
+        super(NAME);
+    }
+
+    @SuppressWarnings("unused")
+    public ChunkOreIndex(String name)
+    {
+        super(name);
+    }
+
+    /**
+     * Updates the entry for a chunk from its chunk data
+     */
+    public void update(ChunkPos pos, ChunkDataTFC data)
+    {
+        long key = ChunkPos.asLong(pos.x, pos.z);
+        List<Ore> ores = new ArrayList<>();
+        for (Vein vein : data.getGeneratedVeins())
+        {
+            if (vein.getType() != null && vein.getType().getOre() != null)
+            {
+                ores.add(vein.getType().getOre());
+            }
+        }
+        if (ores.isEmpty())
+        {
+            if (entries.remove(key) != null)
+            {
+                markDirty();
+            }
+        }
+        else
+        {
+            Entry entry = entries.get(key);
+            Ore[] oreArray = ores.toArray(new Ore[0]);
+            if (entry == null || entry.workage != data.getChunkWorkage() || !Arrays.equals(entry.ores, oreArray))
+            {
+                entries.put(key, new Entry(oreArray, data.getChunkWorkage(), 0));
+                markDirty();
+            }
+        }
+    }
+
+    public void onChunkLoad(Chunk chunk)
+    {
+        ChunkDataTFC data = ChunkDataTFC.get(chunk);
+        Entry entry = entries.get(ChunkPos.asLong(chunk.x, chunk.z));
+        if (entry != null && entry.pendingWork > 0)
+        {
+            data.addWork(entry.pendingWork);
+            entry.pendingWork = 0;
+            markDirty();
+        }
+        update(chunk.getPos(), data);
+    }
+
+    /**
+     * Picks a random ore from a random workable chunk within a radius, and adds one work to that chunk
+     * Loaded chunks are checked directly, unloaded chunks from this index. This never loads any chunks.
+     *
+     * @return the ore, or null if no chunk in range has any ore left to work
+     */
+    @Nullable
+    public Ore work(World world, ChunkPos center, int radius, Random random)
+    {
+        List<ChunkPos> candidates = new ArrayList<>();
+        for (int x = center.x - radius; x <= center.x + radius; x++)
+        {
+            for (int z = center.z - radius; z <= center.z + radius; z++)
+            {
+                Entry entry = entries.get(ChunkPos.asLong(x, z));
+                if (entry != null)
+                {
+                    Chunk chunk = world.getChunkProvider().getLoadedChunk(x, z);
+                    if (chunk != null ? ChunkDataTFC.get(chunk).canWork(1) : ChunkDataTFC.canWork(entry.workage, 1))
+                    {
+                        candidates.add(new ChunkPos(x, z));
+                    }
+                }
+            }
+        }
+        if (candidates.isEmpty())
+        {
+            return null;
+        }
+
+        ChunkPos pos = candidates.get(random.nextInt(candidates.size()));
+        Entry entry = entries.get(ChunkPos.asLong(pos.x, pos.z));
+        Chunk chunk = world.getChunkProvider().getLoadedChunk(pos.x, pos.z);
+        if (chunk != null)
+        {
+            ChunkDataTFC data = ChunkDataTFC.get(chunk);
+            data.addWork();
+            entry.workage = data.getChunkWorkage();
+        }
+        else
+        {
+            // Written to the chunk data when it's next loaded
+            entry.workage++;
+            entry.pendingWork++;
+        }
+        markDirty();
+        return entry.ores[random.nextInt(entry.ores.length)];
+    }
+
+    @Override
+    public void readFromNBT(NBTTagCompound nbt)
+    {
+        entries.clear();
+
+        NBTTagList orePalette = nbt.getTagList("orePalette", Constants.NBT.TAG_STRING);
+        Ore[] palette = new Ore[orePalette.tagCount()];
+        for (int i = 0; i < palette.length; i++)
+        {
+            palette[i] = TFCRegistries.ORES.getValue(new ResourceLocation(orePalette.getStringTagAt(i)));
+        }
+
+        NBTTagList chunks = nbt.getTagList("chunks", Constants.NBT.TAG_COMPOUND);
+        for (int i = 0; i < chunks.tagCount(); i++)
+        {
+            NBTTagCompound chunkNbt = chunks.getCompoundTagAt(i);
+            List<Ore> ores = new ArrayList<>();
+            for (int index : chunkNbt.getIntArray("ores"))
+            {
+                // Ores may have been removed since this was saved
+                if (index < palette.length && palette[index] != null)
+                {
+                    ores.add(palette[index]);
+                }
+            }
+            if (!ores.isEmpty())
+            {
+                entries.put(chunkNbt.getLong("pos"), new Entry(ores.toArray(new Ore[0]), chunkNbt.getInteger("workage"), chunkNbt.getInteger("pendingWork")));
+            }
+        }
+    }
+
+    @Override
+    @Nonnull
+    public NBTTagCompound writeToNBT(NBTTagCompound nbt)
+    {
+        Map<Ore, Integer> paletteIds = new HashMap<>();
+        NBTTagList orePalette = new NBTTagList();
+        NBTTagList chunks = new NBTTagList();
+        for (Long2ObjectMap.Entry<Entry> mapEntry : entries.long2ObjectEntrySet())
+        {
+            Entry entry = mapEntry.getValue();
+            int[] ores = new int[entry.ores.length];
+            for (int i = 0; i < ores.length; i++)
+            {
+                Ore ore = entry.ores[i];
+                Integer id = paletteIds.get(ore);
+                if (id == null)
+                {
+                    id = paletteIds.size();
+                    paletteIds.put(ore, id);
+                    //noinspection ConstantConditions
+                    orePalette.appendTag(new NBTTagString(ore.getRegistryName().toString()));
+                }
+                ores[i] = id;
+            }
+
+            NBTTagCompound chunkNbt = new NBTTagCompound();
+            chunkNbt.setLong("pos", mapEntry.getLongKey());
+            chunkNbt.setIntArray("ores", ores);
+            chunkNbt.setInteger("workage", entry.workage);
+            chunkNbt.setInteger("pendingWork", entry.pendingWork);
+            chunks.appendTag(chunkNbt);
+        }
+        nbt.setTag("orePalette", orePalette);
+        nbt.setTag("chunks", chunks);
+        return nbt;
+    }
+
+    private static final class Entry
+    {
+        private final Ore[] ores; // One per vein, so ores with more veins are more likely
+        private int workage, pendingWork;
+
+        private Entry(Ore[] ores, int workage, int pendingWork)
+        {
+            this.ores = ores;
+            this.workage = workage;
+            this.pendingWork = pendingWork;
+        }
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Work under Copyright. Licensed under the EUPL.
+ * See the project README.md and LICENSE.txt for more information.
+ */
+
+package net.dries007.tfc.world.classic.chunkdata;
+
+import java.util.List;
+import javax.annotation.Nullable;
+
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
+
+import it.unimi.dsi.fastutil.ints.IntIterator;
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import it.unimi.dsi.fastutil.ints.IntSet;
+import net.dries007.tfc.objects.blocks.wood.BlockSupport;
+
+/**
+ * The position of every support beam in a chunk. Used for cave ins, so finding the supports around a block doesn't need to check every block around it.
+ * Positions are added and removed by the supports themselves, see {@link BlockSupport}
+ * This only tracks where supports are, not if they are able to support blocks, as that depends on the blocks around them.
+ */
+public final class ChunkSupports
+{
+    /**
+     * Server side only: the index is updated by block changes on the server, so client chunks would never see supports placed or broken after they're scanned
+     *
+     * @return the supports in a chunk, or null if the chunk has no (initialized) chunk data
+     */
+    @Nullable
+    public static ChunkSupports get(Chunk chunk)
+    {
+        ChunkDataTFC data = ChunkDataTFC.get(chunk);
+        if (chunk.getWorld().isRemote || !data.isInitialized())
+        {
+            return null;
+        }
+        if (data.getSupports() == null)
+        {
+            // Chunks from before supports were tracked are searched once, the first time they're needed
+            data.setSupports(scan(chunk));
+            chunk.markDirty();
+        }
+        return data.getSupports();
+    }
+
+    private static ChunkSupports scan(Chunk chunk)
+    {
+        ChunkSupports supports = new ChunkSupports();
+        for (ExtendedBlockStorage section : chunk.getBlockStorageArray())
+        {
+            if (section != Chunk.NULL_BLOCK_STORAGE && !section.isEmpty())
+            {
+                for (int y = 0; y < 16; y++)
+                {
+                    for (int z = 0; z < 16; z++)
+                    {
+                        for (int x = 0; x < 16; x++)
+                        {
+                            if (section.get(x, y, z).getBlock() instanceof BlockSupport)
+                            {
+                                supports.positions.add(pack(x, section.getYLocation() + y, z));
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return supports;
+    }
+
+    private static int pack(int x, int y, int z)
+    {
+        return (y << 8) | (z << 4) | x;
+    }
+
+    private final IntSet positions = new IntOpenHashSet();
+
+    public void add(BlockPos pos)
+    {
+        positions.add(pack(pos.getX() & 15, pos.getY(), pos.getZ() & 15));
+    }
+
+    public void remove(BlockPos pos)
+    {
+        positions.remove(pack(pos.getX() & 15, pos.getY(), pos.getZ() & 15));
+    }
+
+    /**
+     * Adds all supports in this chunk which are inside an area
+     *
+     * @param chunkX the x position of this chunk
+     * @param chunkZ the z position of this chunk
+     * @param min    the lowest corner of the area
+     * @param max    the highest corner of the area
+     */
+    public void collect(int chunkX, int chunkZ, BlockPos min, BlockPos max, List<BlockPos> supports)
+    {
+        IntIterator iterator = positions.iterator();
+        while (iterator.hasNext())
+        {
+            int packed = iterator.nextInt();
+            int x = (chunkX << 4) | (packed & 15), y = packed >> 8, z = (chunkZ << 4) | ((packed >> 4) & 15);
+            if (x >= min.getX() && x <= max.getX() && y >= min.getY() && y <= max.getY() && z >= min.getZ() && z <= max.getZ())
+            {
+                supports.add(new BlockPos(x, y, z));
+            }
+        }
+    }
+
+    public int[] serialize()
+    {
+        return positions.toIntArray();
+    }
+
+    public void deserialize(int[] packed)
+    {
+        positions.clear();
+        for (int value : packed)
+        {
+            positions.add(value);
+        }
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Work under Copyright. Licensed under the EUPL.
+ * See the project README.md and LICENSE.txt for more information.
+ */
+
+package net.dries007.tfc.world.classic.chunkdata;
+
+import java.util.Arrays;
+
+import net.minecraftforge.fml.common.network.ByteBufUtils;
+
+import io.netty.buffer.ByteBuf;
+
+/**
+ * Compact binary encodings for per column chunk data.
+ * - Indexed: a palette of values, followed by one bit packed palette index per column. Chunk data usually only has a handful of distinct rocks or layers, so this takes a few bits per column.
+ * - Deltas: each signed byte value stored as its difference from the previous value (starting from 0), zig zag encoded so small negative differences stay small, then written as a var int.
+ *   Neighbouring columns have similar sea level offsets, so this is usually one byte per column. Values are read back as signed bytes, so any byte array round trips.
+ */
+final class PaletteEncoding
+{
+    /**
+     * Writes a palette, and the (unsigned) indices into it
+     */
+    static void writeIndexed(ByteBuf buf, int[] palette, byte[] indices)
+    {
+        ByteBufUtils.writeVarInt(buf, palette.length, 5);
+        for (int value : palette)
+        {
+            writeSigned(buf, value);
+        }
+
+        int bits = bitsFor(palette.length);
+        if (bits > 0)
+        {
+            int buffer = 0;
+            int count = 0;
+            for (byte index : indices)
+            {
+                buffer |= (index & 0xFF) << count;
+                count += bits;
+                while (count >= 8)
+                {
+                    buf.writeByte(buffer);
+                    buffer >>>= 8;
+                    count -= 8;
+                }
+            }
+            if (count > 0)
+            {
+                buf.writeByte(buffer);
+            }
+        }
+    }
+
+    /**
+     * Reads indices written by {@link PaletteEncoding#writeIndexed(ByteBuf, int[], byte[])}. The indices must be the same length as when written.
+     *
+     * @return the palette
+     */
+    static int[] readIndexed(ByteBuf buf, byte[] indices)
+    {
+        int[] palette = new int[ByteBufUtils.readVarInt(buf, 5)];
+        for (int i = 0; i < palette.length; i++)
+        {
+            palette[i] = readSigned(buf);
+        }
+
+        int bits = bitsFor(palette.length);
+        if (bits == 0)
+        {
+            Arrays.fill(indices, (byte) 0);
+            return palette;
+        }
+
+        int mask = (1 << bits) - 1;
+        int buffer = 0;
+        int count = 0;
+        for (int i = 0; i < indices.length; i++)
+        {
+            while (count < bits)
+            {
+                buffer |= buf.readUnsignedByte() << count;
+                count += 8;
+            }
+            indices[i] = (byte) (buffer & mask);
+            buffer >>>= bits;
+            count -= bits;
+        }
+        return palette;
+    }
+
+    /**
+     * Writes arbitrary byte values, using a palette of the distinct values
+     */
+    static void writePalette(ByteBuf buf, byte[] values)
+    {
+        int[] ids = new int[256];
+        Arrays.fill(ids, -1);
+        int[] palette = new int[256];
+        int size = 0;
+        byte[] indices = new byte[values.length];
+        for (int i = 0; i < values.length; i++)
+        {
+            int value = values[i] & 0xFF;
+            if (ids[value] == -1)
+            {
+                ids[value] = size;
+                palette[size++] = values[i];
+            }
+            indices[i] = (byte) ids[value];
+        }
+        writeIndexed(buf, Arrays.copyOf(palette, size), indices);
+    }
+
+    static void readPalette(ByteBuf buf, byte[] values)
+    {
+        int[] palette = readIndexed(buf, values);
+        for (int i = 0; i < values.length; i++)
+        {
+            values[i] = palette.length == 0 ? 0 : (byte) palette[values[i] & 0xFF];
+        }
+    }
+
+    static void writeDeltas(ByteBuf buf, byte[] values)
+    {
+        int previous = 0;
+        for (byte value : values)
+        {
+            writeSigned(buf, value - previous);
+            previous = value;
+        }
+    }
+
+    static void readDeltas(ByteBuf buf, byte[] values)
+    {
+        int previous = 0;
+        for (int i = 0; i < values.length; i++)
+        {
+            previous += readSigned(buf);
+            values[i] = (byte) previous;
+        }
+    }
+
+    static int bitsFor(int paletteSize)
+    {
+        return paletteSize <= 1 ? 0 : 32 - Integer.numberOfLeadingZeros(paletteSize - 1);
+    }
+
+    private static void writeSigned(ByteBuf buf, int value)
+    {
+        ByteBufUtils.writeVarInt(buf, (value << 1) ^ (value >> 31), 5);
+    }
+
+    private static int readSigned(ByteBuf buf)
+    {
+        int value = ByteBufUtils.readVarInt(buf, 5);
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private PaletteEncoding() {}
+}
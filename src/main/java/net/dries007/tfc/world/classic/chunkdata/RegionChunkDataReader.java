@@ -0,0 +1,163 @@
+/*
+ * Work under Copyright. Licensed under the EUPL.
+ * See the project README.md and LICENSE.txt for more information.
+ */
+
+package net.dries007.tfc.world.classic.chunkdata;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.function.BiConsumer;
+import java.util.function.Predicate;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+import javax.annotation.Nullable;
+
+import net.minecraft.nbt.CompressedStreamTools;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraftforge.common.util.Constants;
+
+import net.dries007.tfc.TerraFirmaCraft;
+
+/**
+ * Reads chunk data directly from a region (.mca) file, without loading any chunks
+ * This only reads what has been saved to disk, so chunks which are loaded (or waiting to be saved) may be out of date.
+ * Safe to use from any thread, as long as the registries are done loading. Chunks which can't be read are logged and skipped.
+ */
+public final class RegionChunkDataReader
+{
+    private static final int SECTOR_SIZE = 4096;
+    private static final int COMPRESSION_GZIP = 1;
+    private static final int COMPRESSION_ZLIB = 2;
+    private static final ChunkDataTFC.ChunkDataStorage STORAGE = new ChunkDataTFC.ChunkDataStorage();
+
+    /**
+     * @param regionFile the region file, named r.x.z.mca
+     * @param filter     which chunks to read
+     * @param consumer   called for every chunk with initialized chunk data
+     */
+    public static void read(File regionFile, Predicate<ChunkPos> filter, BiConsumer<ChunkPos, ChunkDataTFC> consumer) throws IOException
+    {
+        String[] parts = regionFile.getName().split("\\.");
+        if (parts.length != 4)
+        {
+            throw new IOException("Not a region file: " + regionFile);
+        }
+        final int regionX, regionZ;
+        try
+        {
+            regionX = Integer.parseInt(parts[1]);
+            regionZ = Integer.parseInt(parts[2]);
+        }
+        catch (NumberFormatException e)
+        {
+            throw new IOException("Not a region file: " + regionFile, e);
+        }
+
+        // Positional reads, rather than memory mapping, so this never holds onto a file the server may still be writing to
+        try (FileChannel channel = FileChannel.open(regionFile.toPath(), StandardOpenOption.READ))
+        {
+            final long size = channel.size();
+            if (size < SECTOR_SIZE)
+            {
+                return; // Empty region
+            }
+            ByteBuffer header = ByteBuffer.allocate(SECTOR_SIZE);
+            readFully(channel, header, 0);
+            for (int i = 0; i < 1024; i++)
+            {
+                int location = header.getInt(i * 4);
+                if (location == 0)
+                {
+                    continue; // Not generated
+                }
+                ChunkPos pos = new ChunkPos((regionX << 5) + (i & 31), (regionZ << 5) + (i >> 5));
+                if (!filter.test(pos))
+                {
+                    continue;
+                }
+
+                long start = (long) (location >>> 8) * SECTOR_SIZE;
+                if (start + 5 > size)
+                {
+                    continue;
+                }
+                ByteBuffer chunkHeader = ByteBuffer.allocate(5);
+                readFully(channel, chunkHeader, start);
+                int length = chunkHeader.getInt(0) - 1;
+                byte compression = chunkHeader.get(4);
+                if (length <= 0 || start + 5 + length > size)
+                {
+                    continue;
+                }
+                ByteBuffer data = ByteBuffer.allocate(length);
+                readFully(channel, data, start + 5);
+
+                ChunkDataTFC chunkData;
+                try
+                {
+                    chunkData = readChunkData(data.array(), compression);
+                }
+                catch (IOException | RuntimeException e)
+                {
+                    // Corrupt or half written chunk, skip it rather than the rest of the region
+                    TerraFirmaCraft.getLog().warn("Unable to read chunk {} in region file {}", pos, regionFile, e);
+                    continue;
+                }
+                if (chunkData != null)
+                {
+                    consumer.accept(pos, chunkData);
+                }
+            }
+        }
+    }
+
+    @Nullable
+    private static ChunkDataTFC readChunkData(byte[] data, byte compression) throws IOException
+    {
+        InputStream input;
+        if (compression == COMPRESSION_GZIP)
+        {
+            input = new GZIPInputStream(new ByteArrayInputStream(data));
+        }
+        else if (compression == COMPRESSION_ZLIB)
+        {
+            input = new InflaterInputStream(new ByteArrayInputStream(data));
+        }
+        else
+        {
+            return null;
+        }
+
+        NBTTagCompound root;
+        try (DataInputStream stream = new DataInputStream(new BufferedInputStream(input)))
+        {
+            root = CompressedStreamTools.read(stream);
+        }
+        NBTTagCompound capabilities = root.getCompoundTag("Level").getCompoundTag("ForgeCaps");
+        if (!capabilities.hasKey(CapabilityChunkData.CHUNK_DATA.toString(), Constants.NBT.TAG_COMPOUND))
+        {
+            return null;
+        }
+
+        ChunkDataTFC chunkData = new ChunkDataTFC();
+        STORAGE.readNBT(ChunkDataProvider.CHUNK_DATA_CAPABILITY, chunkData, null, capabilities.getCompoundTag(CapabilityChunkData.CHUNK_DATA.toString()));
+        return chunkData.isInitialized() ? chunkData : null;
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException
+    {
+        while (buffer.hasRemaining())
+        {
+            if (channel.read(buffer, position + buffer.position()) < 0)
+            {
+                throw new EOFException();
+            }
+        }
+    }
+
+    private RegionChunkDataReader() {}
+}
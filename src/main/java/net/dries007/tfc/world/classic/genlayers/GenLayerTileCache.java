@@ -0,0 +1,169 @@
+/*
+ * Work under Copyright. Licensed under the EUPL.
+ * See the project README.md and LICENSE.txt for more information.
+ */
+
+package net.dries007.tfc.world.classic.genlayers;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.gen.layer.IntCache;
+
+import net.dries007.tfc.world.classic.DataLayer;
+
+/**
+ * Caches the results of the rock, stability and drainage gen layers in tiles of {@link GenLayerTileCache#TILE_CHUNKS}^2 chunks.
+ * Each tile is evaluated with a single {@link GenLayerTFC#getInts(int, int, int, int)} call per layer, so the zoom / smooth parents are computed once for the whole tile, rather than once per chunk.
+ * Tiles are evicted least recently used first.
+ */
+public class GenLayerTileCache
+{
+    public static final int TILE_CHUNKS = 32;
+    public static final int TILE_BLOCKS = TILE_CHUNKS * 16;
+    private static final int TILE_AREA = TILE_BLOCKS * TILE_BLOCKS;
+    private static final long TILE_BYTES = TILE_AREA * (3L * Short.BYTES + 2L * Byte.BYTES);
+
+    private final GenLayerTFC rockLayer1, rockLayer2, rockLayer3, stabilityLayer, drainageLayer;
+    private final Map<Long, Tile> tiles;
+    private final int capacity;
+    private long hits, misses;
+
+    public GenLayerTileCache(GenLayerTFC rockLayer1, GenLayerTFC rockLayer2, GenLayerTFC rockLayer3, GenLayerTFC stabilityLayer, GenLayerTFC drainageLayer, int capacity)
+    {
+        this.rockLayer1 = rockLayer1;
+        this.rockLayer2 = rockLayer2;
+        this.rockLayer3 = rockLayer3;
+        this.stabilityLayer = stabilityLayer;
+        this.drainageLayer = drainageLayer;
+        this.capacity = capacity;
+        this.tiles = new LinkedHashMap<Long, Tile>(16, 0.75f, true)
+        {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Tile> eldest)
+            {
+                return size() > GenLayerTileCache.this.capacity;
+            }
+        };
+    }
+
+    /**
+     * Fills the rock, stability and drainage layers for a chunk. Arrays are indexed the same as a 16x16 {@link GenLayerTFC#getInts(int, int, int, int)} call would be (z << 4 | x)
+     * This is a single cache lookup per chunk, which is what the hit and miss counts are measured in.
+     */
+    public void getLayers(int chunkX, int chunkZ, int[] rockLayer1, int[] rockLayer2, int[] rockLayer3, DataLayer[] stabilityLayer, DataLayer[] drainageLayer)
+    {
+        Tile tile = getTile(chunkX, chunkZ);
+        int start = tile.getStartIndex(chunkX, chunkZ);
+        for (int z = 0; z < 16; z++)
+        {
+            for (int x = 0; x < 16; x++)
+            {
+                int index = start + z * TILE_BLOCKS + x;
+                rockLayer1[z << 4 | x] = tile.rockLayer1[index];
+                rockLayer2[z << 4 | x] = tile.rockLayer2[index];
+                rockLayer3[z << 4 | x] = tile.rockLayer3[index];
+                stabilityLayer[z << 4 | x] = DataLayer.get(tile.stabilityLayer[index] & 0xFF);
+                drainageLayer[z << 4 | x] = DataLayer.get(tile.drainageLayer[index] & 0xFF);
+            }
+        }
+    }
+
+    public synchronized int getSize()
+    {
+        return tiles.size();
+    }
+
+    public int getCapacity()
+    {
+        return capacity;
+    }
+
+    public synchronized long getHits()
+    {
+        return hits;
+    }
+
+    public synchronized long getMisses()
+    {
+        return misses;
+    }
+
+    /**
+     * @return the approximate number of bytes used by cached tiles
+     */
+    public synchronized long getMemoryUsage()
+    {
+        return tiles.size() * TILE_BYTES;
+    }
+
+    private synchronized Tile getTile(int chunkX, int chunkZ)
+    {
+        int tileX = Math.floorDiv(chunkX, TILE_CHUNKS), tileZ = Math.floorDiv(chunkZ, TILE_CHUNKS);
+        long key = ChunkPos.asLong(tileX, tileZ);
+        Tile tile = tiles.get(key);
+        if (tile == null)
+        {
+            misses++;
+            tile = new Tile(tileX, tileZ);
+            tiles.put(key, tile);
+        }
+        else
+        {
+            hits++;
+        }
+        return tile;
+    }
+
+    private static short[] toShorts(int[] ints)
+    {
+        short[] values = new short[TILE_AREA];
+        for (int i = 0; i < TILE_AREA; i++)
+        {
+            values[i] = (short) ints[i];
+        }
+        return values;
+    }
+
+    private static byte[] toBytes(int[] ints)
+    {
+        byte[] values = new byte[TILE_AREA];
+        for (int i = 0; i < TILE_AREA; i++)
+        {
+            values[i] = (byte) ints[i];
+        }
+        return values;
+    }
+
+    private final class Tile
+    {
+        private final int tileX, tileZ;
+        private final short[] rockLayer1, rockLayer2, rockLayer3;
+        private final byte[] stabilityLayer, drainageLayer;
+
+        private Tile(int tileX, int tileZ)
+        {
+            this.tileX = tileX;
+            this.tileZ = tileZ;
+
+            final int x = tileX * TILE_BLOCKS, z = tileZ * TILE_BLOCKS;
+            rockLayer1 = toShorts(evaluate(GenLayerTileCache.this.rockLayer1, x, z));
+            rockLayer2 = toShorts(evaluate(GenLayerTileCache.this.rockLayer2, x, z));
+            rockLayer3 = toShorts(evaluate(GenLayerTileCache.this.rockLayer3, x, z));
+            stabilityLayer = toBytes(evaluate(GenLayerTileCache.this.stabilityLayer, x, z));
+            drainageLayer = toBytes(evaluate(GenLayerTileCache.this.drainageLayer, x, z));
+        }
+
+        private int getStartIndex(int chunkX, int chunkZ)
+        {
+            return ((chunkZ - tileZ * TILE_CHUNKS) * 16) * TILE_BLOCKS + (chunkX - tileX * TILE_CHUNKS) * 16;
+        }
+
+        private int[] evaluate(GenLayerTFC layer, int x, int z)
+        {
+            IntCache.resetIntCache();
+            return layer.getInts(x, z, TILE_BLOCKS, TILE_BLOCKS);
+        }
+    }
+}
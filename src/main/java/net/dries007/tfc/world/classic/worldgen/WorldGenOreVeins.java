@@ -5,13 +5,11 @@
 
 package net.dries007.tfc.world.classic.worldgen;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Random;
-import java.util.stream.Collectors;
+import java.util.*;
 
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
 import net.minecraft.world.World;
 import net.minecraft.world.chunk.IChunkProvider;
 import net.minecraft.world.gen.IChunkGenerator;
@@ -23,12 +21,27 @@ import net.dries007.tfc.api.types.Rock;
 import net.dries007.tfc.objects.blocks.stone.BlockRockVariant;
 import net.dries007.tfc.world.classic.ChunkGenTFC;
 import net.dries007.tfc.world.classic.chunkdata.ChunkDataTFC;
+import net.dries007.tfc.world.classic.chunkdata.ChunkOreIndex;
 import net.dries007.tfc.world.classic.worldgen.vein.Vein;
 import net.dries007.tfc.world.classic.worldgen.vein.VeinRegistry;
+import net.dries007.tfc.world.classic.worldgen.vein.VeinType;
 
+/**
+ * Generates ore veins. Veins are deterministic per chunk and world seed, and each chunk's veins are needed by all of its neighbours (and by {@link WorldGenLooseRocks}), so they are memoized per chunk in a small LRU cache.
+ */
 public class WorldGenOreVeins implements IWorldGenerator
 {
+    private static final int CACHE_CAPACITY = 1024;
     private static final Random LOCAL_RANDOM = new Random();
+    private static final Map<Long, Vein[]> CACHED_VEINS = new LinkedHashMap<Long, Vein[]>(16, 0.75f, true)
+    {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Vein[]> eldest)
+        {
+            return size() > CACHE_CAPACITY;
+        }
+    };
+    private static long cachedSeed;
     public static int CHUNK_RADIUS = 1;
 
     // Used to generate chunk
@@ -39,20 +52,37 @@ public class WorldGenOreVeins implements IWorldGenerator
         {
             for (int z = -radius; z <= radius; z++)
             {
-                getVeinsAtChunk(veins, chunkX + x, chunkZ + z, worldSeed);
+                Collections.addAll(veins, getVeinsAtChunk(chunkX + x, chunkZ + z, worldSeed));
             }
         }
         return veins;
     }
 
     // Gets veins at a single chunk. Deterministic for a specific chunk x/z and world seed
-    private static void getVeinsAtChunk(List<Vein> listToAdd, int chunkX, int chunkZ, long worldSeed)
+    private static synchronized Vein[] getVeinsAtChunk(int chunkX, int chunkZ, long worldSeed)
     {
-        LOCAL_RANDOM.setSeed(worldSeed + chunkX * 341873128712L + chunkZ * 132897987541L);
-        listToAdd.addAll(VeinRegistry.INSTANCE.getVeins().values().stream()
-            .filter(veinType -> LOCAL_RANDOM.nextInt(veinType.getRarity()) == 0)
-            .map(veinType -> veinType.createVein(LOCAL_RANDOM, chunkX, chunkZ))
-            .collect(Collectors.toList()));
+        if (worldSeed != cachedSeed)
+        {
+            CACHED_VEINS.clear();
+            cachedSeed = worldSeed;
+        }
+        long key = ChunkPos.asLong(chunkX, chunkZ);
+        Vein[] veins = CACHED_VEINS.get(key);
+        if (veins == null)
+        {
+            List<Vein> list = new ArrayList<>();
+            LOCAL_RANDOM.setSeed(worldSeed + chunkX * 341873128712L + chunkZ * 132897987541L);
+            for (VeinType veinType : VeinRegistry.INSTANCE.getVeins().values())
+            {
+                if (LOCAL_RANDOM.nextInt(veinType.getRarity()) == 0)
+                {
+                    list.add(veinType.createVein(LOCAL_RANDOM, chunkX, chunkZ));
+                }
+            }
+            veins = list.toArray(new Vein[0]);
+            CACHED_VEINS.put(key, veins);
+        }
+        return veins;
     }
 
     @Override
@@ -65,39 +95,47 @@ public class WorldGenOreVeins implements IWorldGenerator
         if (world.provider.getDimension() != 0) return;
 
         List<Vein> veins = getNearbyVeins(chunkX, chunkZ, world.getSeed(), CHUNK_RADIUS);
+        final BlockPos.MutableBlockPos posAt = new BlockPos.MutableBlockPos();
 
         for (Vein vein : veins)
         {
             boolean generated = false;
-            for (int x = chunkBlockPos.getX() + 8; x < chunkBlockPos.getX() + 24; x++)
+            if (vein.getType() != null)
             {
-                for (int z = chunkBlockPos.getZ() + 8; z < chunkBlockPos.getZ() + 24; z++)
+                // Only visit the columns inside the vein's bounding box. Columns are still visited in the same order, so the random is called the same number of times
+                final int minX = Math.max(chunkBlockPos.getX() + 8, vein.getMinX()), maxX = Math.min(chunkBlockPos.getX() + 23, vein.getMaxX());
+                final int minZ = Math.max(chunkBlockPos.getZ() + 8, vein.getMinZ()), maxZ = Math.min(chunkBlockPos.getZ() + 23, vein.getMaxZ());
+                for (int x = minX; x <= maxX; x++)
                 {
-                    // Do checks here that are specific to the the horizontal position, not the vertical one
-                    if (vein.inRange(x, z, 0))
+                    for (int z = minZ; z <= maxZ; z++)
                     {
-                        for (int y = vein.getLowestY(); y <= vein.getHighestY(); y++)
+                        // Do checks here that are specific to the the horizontal position, not the vertical one
+                        if (vein.inRange(x, z, 0))
                         {
-                            final BlockPos posAt = new BlockPos(x, y, z);
-                            final IBlockState stateAt = world.getBlockState(posAt);
-
-                            // Do checks specific to the individual block pos that is getting replaced
-                            if (random.nextDouble() < vein.getChanceToGenerate(posAt) && stateAt.getBlock() instanceof BlockRockVariant)
+                            for (int y = vein.getLowestY(); y <= vein.getHighestY(); y++)
                             {
-                                final BlockRockVariant blockAt = (BlockRockVariant) stateAt.getBlock();
-                                if (blockAt.getType() == Rock.Type.RAW && vein.canSpawnIn(blockAt.getRock()))
+                                posAt.setPos(x, y, z);
+
+                                // Do checks specific to the individual block pos that is getting replaced
+                                if (random.nextDouble() < vein.getChanceToGenerate(posAt))
                                 {
-                                    world.setBlockState(posAt, vein.getOreState(blockAt.getRock()), 2);
-                                    generated = true;
+                                    final IBlockState stateAt = world.getBlockState(posAt);
+                                    if (stateAt.getBlock() instanceof BlockRockVariant)
+                                    {
+                                        final BlockRockVariant blockAt = (BlockRockVariant) stateAt.getBlock();
+                                        if (blockAt.getType() == Rock.Type.RAW && vein.canSpawnIn(blockAt.getRock()))
+                                        {
+                                            world.setBlockState(posAt, vein.getOreState(blockAt.getRock()), 2);
+                                            generated = true;
+                                        }
+                                    }
                                 }
                             }
                         }
                     }
                 }
-            }
-            // Chunk post-processing, if a vein generated
-            if (vein.getType() != null)
-            {
+
+                // Chunk post-processing, if a vein generated
                 if (generated)
                 {
                     chunkData.markVeinGenerated(vein);
@@ -111,5 +149,6 @@ public class WorldGenOreVeins implements IWorldGenerator
                 }
             }
         }
+        ChunkOreIndex.get(world).update(new ChunkPos(chunkX, chunkZ), chunkData);
     }
-}
\ No newline at end of file
+}
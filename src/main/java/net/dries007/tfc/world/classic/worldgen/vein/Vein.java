@@ -52,12 +52,20 @@ public class Vein
     protected final BlockPos pos;
     protected final VeinType type;
     protected final Ore.Grade grade;
+    private final int minX, maxX, minZ, maxZ;
 
     Vein(BlockPos pos, VeinType type, Ore.Grade grade)
     {
         this.pos = pos;
         this.type = type;
         this.grade = grade;
+
+        // Horizontal bounding box of every position that can be in range
+        int width = type != null ? type.getWidth() : 0;
+        this.minX = pos.getX() - width;
+        this.maxX = pos.getX() + width;
+        this.minZ = pos.getZ() - width;
+        this.maxZ = pos.getZ() + width;
     }
 
     /**
@@ -116,6 +124,29 @@ public class Vein
         return 0;
     }
 
+    /**
+     * The bounds (inclusive) of the columns this vein can generate in. Every position where {@link Vein#inRange(int, int, int)} (with no extra distance) is true is within these bounds
+     */
+    public int getMinX()
+    {
+        return minX;
+    }
+
+    public int getMaxX()
+    {
+        return maxX;
+    }
+
+    public int getMinZ()
+    {
+        return minZ;
+    }
+
+    public int getMaxZ()
+    {
+        return maxZ;
+    }
+
     public BlockPos getPos()
     {
         return pos;
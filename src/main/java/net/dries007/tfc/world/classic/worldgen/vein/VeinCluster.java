@@ -41,10 +41,13 @@ public class VeinCluster extends Vein
     @Override
     public double getChanceToGenerate(BlockPos pos)
     {
+        final int x = pos.getX(), y = pos.getY(), z = pos.getZ();
         double shortestRadius = -1;
         for (Cluster c : spawnPoints)
         {
-            double radius = pos.distanceSq(c.pos) / c.radiusSq;
+            // Same as pos.distanceSq(c.pos), without the virtual calls. All values are small integers, so this is exact
+            final int dx = x - c.x, dy = y - c.y, dz = z - c.z;
+            double radius = (double) (dx * dx + dy * dy + dz * dz) / c.radiusSq;
             if (shortestRadius == -1 || radius < shortestRadius)
             {
                 shortestRadius = radius;
@@ -66,12 +69,14 @@ public class VeinCluster extends Vein
 
     private static final class Cluster
     {
-        final BlockPos pos;
+        final int x, y, z;
         final double radiusSq;
 
         Cluster(BlockPos pos, double radius)
         {
-            this.pos = pos;
+            this.x = pos.getX();
+            this.y = pos.getY();
+            this.z = pos.getZ();
             this.radiusSq = radius * radius;
         }
     }